@@ -0,0 +1,73 @@
+package local.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.path.json.JsonPath;
+import local.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindingBenchmark {
+
+    @Param({"6", "1000"})
+    private int books;
+
+    private String booksJson;
+    private byte[] booksBytes;
+    private String orderJson;
+    private byte[] orderBytes;
+    private ObjectReader booksReader;
+    private ObjectReader orderReader;
+
+    @Setup
+    public void setUp() {
+        booksJson = books == 6 ? Bodies.read("books_list.json") : Bodies.booksList(books);
+        booksBytes = booksJson.getBytes(StandardCharsets.UTF_8);
+        orderJson = Bodies.read("detailed_order.json");
+        orderBytes = orderJson.getBytes(StandardCharsets.UTF_8);
+        ObjectMapper mapper = new ObjectMapper();
+        booksReader = mapper.readerForListOf(BookFromList.class);
+        orderReader = mapper.readerFor(DetailedOrder.class);
+    }
+
+    @Benchmark
+    public List<BookFromList> booksJsonPath() {
+        return JsonPath.from(booksJson).getList(".", BookFromList.class);
+    }
+
+    @Benchmark
+    public List<BookFromList> booksJackson() throws IOException {
+        return booksReader.readValue(booksBytes);
+    }
+
+    @Benchmark
+    public List<CompactBook> booksCompact() {
+        return CompactReader.readBooks(booksBytes);
+    }
+
+    @Benchmark
+    public DetailedOrder detailedOrderJsonPath() {
+        return JsonPath.from(orderJson).getObject(".", DetailedOrder.class);
+    }
+
+    @Benchmark
+    public DetailedOrder detailedOrderJackson() throws IOException {
+        return orderReader.readValue(orderBytes);
+    }
+
+    @Benchmark
+    public CompactOrder detailedOrderCompact() {
+        return CompactReader.readOrder(orderBytes);
+    }
+
+}
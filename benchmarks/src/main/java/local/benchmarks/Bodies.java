@@ -0,0 +1,30 @@
+package local.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+public class Bodies {
+
+    public static String read(String name) {
+        try (InputStream input = Bodies.class.getClassLoader().getResourceAsStream("bodies/" + name)) {
+            if (input == null)
+                throw new IllegalArgumentException("No canned body: " + name);
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static String booksList(int size) {
+        StringJoiner books = new StringJoiner(",", "[", "]");
+        for (int id = 1; id <= size; id++)
+            books.add(String.format("{\"id\":%d,\"name\":\"Book number %d\",\"type\":\"%s\",\"available\":%b}",
+                    id, id, id % 3 == 0 ? "non-fiction" : "fiction", id % 5 != 2));
+        return books.toString();
+    }
+
+}
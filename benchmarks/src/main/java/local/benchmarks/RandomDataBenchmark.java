@@ -0,0 +1,26 @@
+package local.benchmarks;
+
+import local.CustomFunctions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomDataBenchmark {
+
+    @Benchmark
+    public String randomString() {
+        return CustomFunctions.randomString(10);
+    }
+
+    @Benchmark
+    public String randomEmail() {
+        return CustomFunctions.randomEmail();
+    }
+
+}
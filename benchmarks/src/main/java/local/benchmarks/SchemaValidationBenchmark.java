@@ -0,0 +1,40 @@
+package local.benchmarks;
+
+import local.SchemaRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+
+    @Param({"books_list", "detailed_order", "error"})
+    private String body;
+
+    private String schema;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        schema = body + "_schema.json";
+        json = Bodies.read(body + ".json");
+    }
+
+    @Benchmark
+    public boolean classpathMatcher() {
+        return matchesJsonSchemaInClasspath(schema).matches(json);
+    }
+
+    @Benchmark
+    public boolean registryMatcher() {
+        return SchemaRegistry.matchesSchema(schema).matches(json);
+    }
+
+}
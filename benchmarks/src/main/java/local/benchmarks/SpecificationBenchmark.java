@@ -0,0 +1,43 @@
+package local.benchmarks;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import local.CustomSpecifications;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationBenchmark {
+
+    private static final String BASE_URL = "http://127.0.0.1:8080";
+
+    @Benchmark
+    public RequestSpecification requestSpecBuilt() {
+        return new RequestSpecBuilder().setBaseUri(BASE_URL).setContentType(ContentType.JSON).build();
+    }
+
+    @Benchmark
+    public RequestSpecification requestSpecCached() {
+        return CustomSpecifications.requestSpec(BASE_URL);
+    }
+
+    @Benchmark
+    public ResponseSpecification responseSpecBuilt() {
+        return new ResponseSpecBuilder().expectStatusCode(200).build();
+    }
+
+    @Benchmark
+    public ResponseSpecification responseSpecCached() {
+        return CustomSpecifications.responseSpec(200);
+    }
+
+}
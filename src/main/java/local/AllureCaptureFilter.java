@@ -0,0 +1,106 @@
+package local;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class AllureCaptureFilter implements OrderedFilter {
+
+    private static final LoggingPolicy POLICY = LoggingPolicy.parse(System.getProperty("allure.capture", "on_failure"));
+    private static final double SAMPLE_RATE =
+            Double.parseDouble(System.getProperty("allure.capture.sampleRate", "0.01"));
+    private static final int MAX_PENDING = Integer.getInteger("allure.capture.maxPending", 32);
+    private static final ThreadLocal<Deque<String[]>> PENDING = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final AllureCaptureFilter INSTANCE = new AllureCaptureFilter();
+
+    public static AllureCaptureFilter get() {
+        return INSTANCE;
+    }
+
+    public static void clear() {
+        PENDING.get().clear();
+    }
+
+    public static void attach() {
+        Deque<String[]> pending = PENDING.get();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isPresent())
+            for (String[] exchange : pending)
+                attach(lifecycle, exchange);
+        pending.clear();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification response,
+                           FilterContext context) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (POLICY == LoggingPolicy.OFF || !lifecycle.getCurrentTestCaseOrStep().isPresent())
+            return context.next(request, response);
+        String uuid = UUID.randomUUID().toString();
+        String name = request.getMethod() + " " + path(request);
+        lifecycle.startStep(uuid, new StepResult().setName(name));
+        try {
+            Response result = context.next(request, response);
+            String title = name + " -> " + result.getStatusCode();
+            lifecycle.updateStep(uuid, step -> step.setName(title).setStatus(Status.PASSED));
+            if (POLICY == LoggingPolicy.FULL ||
+                    POLICY == LoggingPolicy.SAMPLED && ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE)
+                attach(lifecycle, exchange(title, request, result));
+            else if (POLICY == LoggingPolicy.ON_FAILURE)
+                keep(exchange(title, request, result));
+            return result;
+        }
+        catch (Exception | Error exception) {
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.BROKEN));
+            throw exception;
+        }
+        finally {
+            lifecycle.stopStep(uuid);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    private static String[] exchange(String title, FilterableRequestSpecification request, Response response) {
+        String headers = RequestLoggingFilter.formatHeaders(request, response, new StringBuilder()).toString();
+        return new String[]{title, headers, response.asString(), response.getContentType()};
+    }
+
+    private static void keep(String[] exchange) {
+        Deque<String[]> pending = PENDING.get();
+        pending.addLast(exchange);
+        while (pending.size() > MAX_PENDING)
+            pending.removeFirst();
+    }
+
+    private static void attach(AllureLifecycle lifecycle, String[] exchange) {
+        lifecycle.addAttachment(exchange[0], "text/plain", ".txt", exchange[1].getBytes(StandardCharsets.UTF_8));
+        if (exchange[2].isEmpty())
+            return;
+        boolean json = exchange[3] != null && exchange[3].contains("json");
+        lifecycle.addAttachment(exchange[0] + " body", json ? "application/json" : "text/plain",
+                json ? ".json" : ".txt", exchange[2].getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String path(FilterableRequestSpecification request) {
+        String uri = request.getURI();
+        String baseUri = request.getBaseUri();
+        return baseUri != null && uri.startsWith(baseUri) ? uri.substring(baseUri.length()) : uri;
+    }
+
+}
@@ -0,0 +1,36 @@
+package local;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.stream.Stream;
+
+public class AllureResultsMerger {
+
+    public static void main(String[] args) throws IOException {
+        Path forks = Paths.get(args.length > 0 ? args[0] : "target/allure-results-forks");
+        Path target = Paths.get(args.length > 1 ? args[1] : "target/allure-results");
+        int merged = merge(forks, target);
+        System.out.printf("Merged %d Allure result files from %s into %s%n", merged, forks, target);
+    }
+
+    public static int merge(Path forks, Path target) throws IOException {
+        if (!Files.isDirectory(forks))
+            return 0;
+        Files.createDirectories(target);
+        int merged = 0;
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(forks, Files::isDirectory)) {
+            for (Path directory : directories)
+                try (Stream<Path> files = Files.list(directory)) {
+                    for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                        Path destination = target.resolve(file.getFileName().toString());
+                        if (Files.exists(destination))
+                            continue;
+                        Files.copy(file, destination);
+                        merged++;
+                    }
+                }
+        }
+        return merged;
+    }
+
+}
@@ -0,0 +1,43 @@
+package local;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.lang.reflect.Field;
+
+public class AllureWriterListener implements TestExecutionListener {
+
+    private static final boolean ASYNC = System.getProperty("allure.writer", "sync").trim().equalsIgnoreCase("async");
+    private static final AsyncResultsWriter WRITER = ASYNC ? AsyncResultsWriter.create() : null;
+
+    static {
+        if (WRITER != null) {
+            if (installedLifecycle() != null)
+                throw new IllegalStateException("An Allure lifecycle was created before " +
+                        AllureWriterListener.class.getName() + " installed the async one, so AllureJunitPlatform " +
+                        "would keep writing synchronously; put the test classes ahead of allure-junit-platform " +
+                        "on the classpath or run with -Dallure.writer=sync");
+            Allure.setLifecycle(new AllureLifecycle(WRITER));
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (WRITER != null)
+            WRITER.flush();
+    }
+
+    private static AllureLifecycle installedLifecycle() {
+        try {
+            Field lifecycle = Allure.class.getDeclaredField("lifecycle");
+            lifecycle.setAccessible(true);
+            return (AllureLifecycle) lifecycle.get(null);
+        }
+        catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Cannot check the Allure lifecycle", exception);
+        }
+    }
+
+}
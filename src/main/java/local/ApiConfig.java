@@ -0,0 +1,91 @@
+package local;
+
+import java.util.Locale;
+
+public class ApiConfig {
+
+    private static final ApiConfig INSTANCE = resolve();
+
+    private final ApiProfile profile;
+    private final String baseUrl;
+    private final int currentBooksNumber;
+    private final int connectTimeout;
+    private final int socketTimeout;
+    private final int maxConnections;
+
+    private ApiConfig(ApiProfile profile, String baseUrl, int currentBooksNumber, int connectTimeout,
+                      int socketTimeout, int maxConnections) {
+        this.profile = profile;
+        this.baseUrl = baseUrl;
+        this.currentBooksNumber = currentBooksNumber;
+        this.connectTimeout = connectTimeout;
+        this.socketTimeout = socketTimeout;
+        this.maxConnections = maxConnections;
+    }
+
+    public static ApiConfig get() {
+        return INSTANCE;
+    }
+
+    public ApiProfile getProfile() {
+        return profile;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getCurrentBooksNumber() {
+        return currentBooksNumber;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s profile: %s (connect timeout %d ms, socket timeout %d ms, max connections %d)",
+                profile.name().toLowerCase(Locale.ROOT), baseUrl, connectTimeout, socketTimeout, maxConnections);
+    }
+
+    private static ApiConfig resolve() {
+        String profileName = setting("books.api.profile",
+                Boolean.parseBoolean(setting("books.api.local", "false")) ? "local" : "production");
+        ApiProfile profile;
+        try {
+            profile = ApiProfile.valueOf(profileName.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Unknown books.api.profile: " + profileName, exception);
+        }
+        String baseUrl = setting("books.api.baseUrl", profile.getDefaultBaseUrl());
+        if (baseUrl == null && profile == ApiProfile.LOCAL)
+            baseUrl = LocalBooksApi.shared().getBaseUrl();
+        if (baseUrl == null)
+            throw new IllegalStateException(String.format(
+                    "books.api.baseUrl must be set for the %s profile", profileName));
+        return new ApiConfig(profile, baseUrl.replaceAll("/+$", ""),
+                Integer.parseInt(setting("books.api.currentBooksNumber", "6")),
+                Integer.parseInt(setting("books.api.connectTimeout", String.valueOf(profile.getConnectTimeout()))),
+                Integer.parseInt(setting("books.api.socketTimeout", String.valueOf(profile.getSocketTimeout()))),
+                Integer.parseInt(setting("books.api.maxConnections", String.valueOf(profile.getMaxConnections()))));
+    }
+
+    private static String setting(String property, String defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null)
+            value = System.getenv(property.replaceAll("([a-z])([A-Z])", "$1_$2").replace('.', '_').
+                    toUpperCase(Locale.ROOT));
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+}
@@ -0,0 +1,37 @@
+package local;
+
+public enum ApiProfile {
+
+    LOCAL(null, 1000, 5000, 64),
+    STAGING(null, 5000, 30000, 16),
+    PRODUCTION("https://simple-books-api.glitch.me", 10000, 30000, 16);
+
+    private final String defaultBaseUrl;
+    private final int connectTimeout;
+    private final int socketTimeout;
+    private final int maxConnections;
+
+    ApiProfile(String defaultBaseUrl, int connectTimeout, int socketTimeout, int maxConnections) {
+        this.defaultBaseUrl = defaultBaseUrl;
+        this.connectTimeout = connectTimeout;
+        this.socketTimeout = socketTimeout;
+        this.maxConnections = maxConnections;
+    }
+
+    public String getDefaultBaseUrl() {
+        return defaultBaseUrl;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+}
@@ -0,0 +1,151 @@
+package local;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncBooksApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static volatile AsyncBooksApiClient shared;
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public AsyncBooksApiClient(ApiConfig config) {
+        this.baseUrl = config.getBaseUrl();
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).
+                connectTimeout(Duration.ofMillis(config.getConnectTimeout())).build();
+        this.requestTimeout = Duration.ofMillis(config.getSocketTimeout());
+    }
+
+    public static AsyncBooksApiClient shared() {
+        if (shared == null) {
+            synchronized (AsyncBooksApiClient.class) {
+                if (shared == null)
+                    shared = new AsyncBooksApiClient(ApiConfig.get());
+            }
+        }
+        return shared;
+    }
+
+    public CompletableFuture<Exchange> send(String method, String path, Object body, String accessToken) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout).
+                header("Accept", "application/json");
+        if (accessToken != null)
+            request.header("Authorization", "Bearer " + accessToken);
+        if (body == null)
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        else
+            request.header("Content-Type", "application/json").
+                    method(method, HttpRequest.BodyPublishers.ofByteArray(serialize(body)));
+        String endpoint = method + " " + LatencyFilter.pathTemplate(path);
+        LatencyStats stats = LatencyFilter.get().getStats();
+        long start = System.nanoTime();
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray()).
+                whenComplete((response, error) -> {
+                    if (error != null)
+                        stats.recordError(endpoint);
+                    else
+                        stats.record(endpoint + " " + response.statusCode(), System.nanoTime() - start);
+                }).
+                thenApply(response -> new Exchange(method, path, response.statusCode(), response.body()));
+    }
+
+    public CompletableFuture<Exchange> get(String path) {
+        return send("GET", path, null, null);
+    }
+
+    public CompletableFuture<List<BookFromList>> getBooks(String query) {
+        return get(query.isEmpty() ? "/books" : "/books?" + query).
+                thenApply(exchange -> exchange.validated(200, "books_list_schema.json").asList(BookFromList.class));
+    }
+
+    public CompletableFuture<SingleBook> getBook(int id) {
+        return get("/books/" + id).
+                thenApply(exchange -> exchange.validated(200, "single_book_schema.json").as(SingleBook.class));
+    }
+
+    public CompletableFuture<CreatedOrder> postOrder(String accessToken, RequestOrder order) {
+        return send("POST", "/orders", order, accessToken).
+                thenApply(exchange -> exchange.validated(201, "created_order_schema.json").as(CreatedOrder.class));
+    }
+
+    public CompletableFuture<List<DetailedOrder>> getOrders(String accessToken) {
+        return send("GET", "/orders", null, accessToken).
+                thenApply(exchange -> exchange.validated(200, "orders_list_schema.json").asList(DetailedOrder.class));
+    }
+
+    public CompletableFuture<DetailedOrder> getOrder(String accessToken, String orderId) {
+        return send("GET", "/orders/" + orderId, null, accessToken).
+                thenApply(exchange -> exchange.validated(200, "detailed_order_schema.json").as(DetailedOrder.class));
+    }
+
+    public CompletableFuture<Exchange> deleteOrder(String accessToken, String orderId) {
+        return send("DELETE", "/orders/" + orderId, null, accessToken).
+                thenApply(exchange -> exchange.expect(204));
+    }
+
+    private static byte[] serialize(Object body) {
+        if (body instanceof String)
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        try {
+            return MAPPER.writeValueAsBytes(body);
+        }
+        catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("Cannot serialize request body", exception);
+        }
+    }
+
+    public static class Exchange {
+
+        private final String method;
+        private final String path;
+        private final int statusCode;
+        private final byte[] body;
+
+        private Exchange(String method, String path, int statusCode, byte[] body) {
+            this.method = method;
+            this.path = path;
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public Exchange expect(int expectedStatusCode) {
+            if (statusCode != expectedStatusCode)
+                throw new AssertionError(String.format("%s %s: expected status code <%d> but was <%d>.%n%s",
+                        method, path, expectedStatusCode, statusCode, new String(body, StandardCharsets.UTF_8)));
+            return this;
+        }
+
+        public JsonBody validated(int expectedStatusCode, String schemaName) {
+            return JsonBody.validated(expect(expectedStatusCode).body, schemaName);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s -> %d%n%s", method, path, statusCode,
+                    new String(body, StandardCharsets.UTF_8));
+        }
+
+    }
+
+}
@@ -0,0 +1,208 @@
+package local;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.*;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.GZIPOutputStream;
+
+public class AsyncResultsWriter implements AllureResultsWriter {
+
+    private final AllureResultsWriter delegate;
+    private final int batchSize;
+    private final int gzipAbove;
+    private final BlockingQueue<Runnable> queue;
+    private final Map<String, String> sourcesByHash = new HashMap<>();
+    private final Map<String, String> canonicalSources = new HashMap<>();
+    private final Set<String> compressed = new HashSet<>();
+    private final List<Runnable> writes = new ArrayList<>();
+    private long results;
+    private long attachments;
+    private long duplicates;
+    private long compressedAttachments;
+    private long batches;
+
+    public AsyncResultsWriter(AllureResultsWriter delegate, int queueSize, int batchSize, int gzipAbove) {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.gzipAbove = gzipAbove;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        Thread worker = new Thread(this::drain, "allure-results-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public static AsyncResultsWriter create() {
+        String directory = PropertiesUtils.loadAllureProperties().
+                getProperty("allure.results.directory", "allure-results");
+        AsyncResultsWriter writer = new AsyncResultsWriter(new FileSystemResultsWriter(Paths.get(directory)),
+                Integer.getInteger("allure.writer.queueSize", 4096),
+                Integer.getInteger("allure.writer.batchSize", 64),
+                Integer.getInteger("allure.writer.gzipAbove", 0));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            writer.flush();
+            System.out.println("Allure results writer: " + writer.stats());
+        }, "allure-results-flush"));
+        return writer;
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        enqueue(() -> {
+            rewrite(testResult);
+            writes.add(() -> {
+                delegate.write(testResult);
+                results++;
+            });
+        });
+    }
+
+    @Override
+    public void write(TestResultContainer container) {
+        enqueue(() -> {
+            for (FixtureResult fixture : container.getBefores())
+                rewrite(fixture);
+            for (FixtureResult fixture : container.getAfters())
+                rewrite(fixture);
+            writes.add(() -> delegate.write(container));
+        });
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        byte[] content;
+        try {
+            content = attachment.readAllBytes();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Cannot read attachment " + source, exception);
+        }
+        enqueue(() -> store(source, content));
+    }
+
+    public void flush() {
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        enqueue(() -> writes.add(() -> flushed.complete(null)));
+        try {
+            flushed.get(30, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException | TimeoutException exception) {
+            System.out.println("Allure results were not flushed: " + exception);
+        }
+    }
+
+    public String stats() {
+        return String.format("[results: %d; attachments: %d; duplicates skipped: %d; compressed: %d; batches: %d]",
+                results, attachments, duplicates, compressedAttachments, batches);
+    }
+
+    private void enqueue(Runnable task) {
+        boolean interrupted = false;
+        while (true)
+            try {
+                queue.put(task);
+                break;
+            }
+            catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private void drain() {
+        List<Runnable> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+            }
+            catch (InterruptedException exception) {
+                return;
+            }
+            run(batch);
+            batch.clear();
+            run(writes);
+            writes.clear();
+            batches++;
+        }
+    }
+
+    private static void run(List<Runnable> tasks) {
+        for (Runnable task : tasks)
+            try {
+                task.run();
+            }
+            catch (RuntimeException exception) {
+                System.out.println("Cannot write Allure result: " + exception);
+            }
+    }
+
+    private void store(String source, byte[] content) {
+        attachments++;
+        String existing = sourcesByHash.putIfAbsent(hash(content), source);
+        if (existing != null) {
+            duplicates++;
+            canonicalSources.put(source, canonicalSources.getOrDefault(existing, existing));
+            return;
+        }
+        if (gzipAbove > 0 && content.length > gzipAbove) {
+            String gzipped = source + ".gz";
+            canonicalSources.put(source, gzipped);
+            compressed.add(gzipped);
+            compressedAttachments++;
+            byte[] gzippedContent = gzip(content);
+            writes.add(() -> delegate.write(gzipped, new ByteArrayInputStream(gzippedContent)));
+        }
+        else
+            writes.add(() -> delegate.write(source, new ByteArrayInputStream(content)));
+    }
+
+    private <T extends WithAttachments & WithSteps> void rewrite(T item) {
+        for (Attachment attachment : item.getAttachments()) {
+            String canonical = canonicalSources.get(attachment.getSource());
+            if (canonical == null)
+                continue;
+            attachment.setSource(canonical);
+            if (compressed.contains(canonical))
+                attachment.setType("application/gzip");
+        }
+        for (StepResult step : item.getSteps())
+            rewrite(step);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return output.toByteArray();
+    }
+
+}
@@ -0,0 +1,182 @@
+package local;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CaseEngine {
+
+    private static final Pattern SWEEP = Pattern.compile("\\{([^{}.]+)\\.\\.([^{}.]+)}");
+
+    private final AsyncBooksApiClient client;
+
+    public CaseEngine(AsyncBooksApiClient client) {
+        this.client = client;
+    }
+
+    public static Map<String, List<Case>> load(String resourceName) {
+        Map<String, List<Case>> groups = new LinkedHashMap<>();
+        InputStream input = CaseEngine.class.getClassLoader().getResourceAsStream(resourceName);
+        if (input == null)
+            throw new IllegalArgumentException("Case file not found on classpath: " + resourceName);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank() || line.startsWith("#"))
+                    continue;
+                String[] columns = line.split("\\|", 3);
+                if (columns.length != 3)
+                    throw new IllegalArgumentException(String.format("%s:%d: expected 'request | status | " +
+                            "expectation' but was: %s", resourceName, number, line));
+                String request = columns[0].trim();
+                int status = Integer.parseInt(columns[1].trim());
+                String expectation = columns[2].trim();
+                Matcher sweep = SWEEP.matcher(request);
+                List<Case> cases = new ArrayList<>();
+                if (!sweep.find())
+                    cases.add(new Case(request, status, expectation));
+                else
+                    for (int value = bound(sweep.group(1)); value <= bound(sweep.group(2)); value++)
+                        cases.add(new Case(request.substring(0, sweep.start()) + value +
+                                request.substring(sweep.end()), status,
+                                expectation.replace("{}", String.valueOf(value))));
+                for (Case testCase : cases) {
+                    if (!isValid(testCase.expectation))
+                        throw new IllegalArgumentException(String.format("%s:%d: expected books:<n|all>, " +
+                                "book:<id> or error:<message> but was: %s", resourceName, number,
+                                testCase.expectation));
+                    groups.computeIfAbsent(testCase.getShape(), key -> new ArrayList<>()).add(testCase);
+                }
+            }
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Cannot read case file " + resourceName, exception);
+        }
+        return groups;
+    }
+
+    public CompletableFuture<Void> run(Case testCase) {
+        return client.send(testCase.method, testCase.path, null, null).
+                thenAccept(exchange -> verify(testCase, exchange));
+    }
+
+    public List<CompletableFuture<Void>> runGroup(List<Case> cases) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(cases.size());
+        CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+        for (Case testCase : cases) {
+            CompletableFuture<Void> result = previous.thenCompose(ignored -> run(testCase));
+            results.add(result);
+            previous = result.handle((ignored, error) -> null);
+        }
+        return results;
+    }
+
+    private static void verify(Case testCase, AsyncBooksApiClient.Exchange exchange) {
+        String kind = testCase.expectation.substring(0, testCase.expectation.indexOf(':'));
+        String value = testCase.expectation.substring(kind.length() + 1);
+        exchange.expect(testCase.status);
+        try {
+            check(testCase, kind, value, exchange);
+        }
+        catch (AssertionError error) {
+            throw new AssertionError(error.getMessage() + System.lineSeparator() + exchange, error);
+        }
+    }
+
+    private static void check(Case testCase, String kind, String value, AsyncBooksApiClient.Exchange exchange) {
+        switch (kind) {
+            case "error":
+                assertEquals(value, exchange.validated(testCase.status, "error_schema.json").get("error"),
+                        "Response body value check: error");
+                break;
+            case "books":
+                int matching = matchingBooks(testCase.path);
+                int expectedSize = value.equals("all") ? matching : Math.min(Integer.parseInt(value), matching);
+                assertEquals(expectedSize, exchange.validated(testCase.status, "books_list_schema.json").
+                        asList(BookFromList.class).size(), "Books list length");
+                break;
+            case "book":
+                assertEquals(Integer.parseInt(value), exchange.validated(testCase.status, "single_book_schema.json").
+                        as(SingleBook.class).getId(), "Book id");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown expectation: " + testCase.expectation);
+        }
+    }
+
+    private static boolean isValid(String expectation) {
+        int colon = expectation.indexOf(':');
+        if (colon < 0)
+            return false;
+        String value = expectation.substring(colon + 1);
+        switch (expectation.substring(0, colon)) {
+            case "error":
+                return true;
+            case "books":
+                return value.equals("all") || value.matches("\\d+");
+            case "book":
+                return value.matches("-?\\d+");
+            default:
+                return false;
+        }
+    }
+
+    private static int matchingBooks(String path) {
+        int query = path.indexOf('?');
+        if (query >= 0)
+            for (String parameter : path.substring(query + 1).split("&"))
+                if (parameter.startsWith("type=") && parameter.length() > "type=".length())
+                    return CatalogSnapshot.get().byType(parameter.substring("type=".length())).size();
+        return CatalogSnapshot.get().getBooks().size();
+    }
+
+    private static int bound(String expression) {
+        String trimmed = expression.trim();
+        if (trimmed.startsWith("books"))
+            return CustomData.CURRENT_BOOKS_NUMBER + (trimmed.length() > "books".length() ?
+                    Integer.parseInt(trimmed.substring("books".length()).replace("+", "")) : 0);
+        return Integer.parseInt(trimmed);
+    }
+
+    public static class Case {
+
+        private final String method;
+        private final String path;
+        private final int status;
+        private final String expectation;
+
+        private Case(String request, int status, String expectation) {
+            String[] parts = request.split(" ", 2);
+            this.method = parts[0];
+            this.path = parts[1];
+            this.status = status;
+            this.expectation = expectation;
+        }
+
+        public String getShape() {
+            StringBuilder shape = new StringBuilder(method).append(' ').append(LatencyFilter.pathTemplate(path));
+            int query = path.indexOf('?');
+            if (query >= 0)
+                for (String parameter : path.substring(query + 1).split("&"))
+                    shape.append(shape.indexOf("?") < 0 ? '?' : '&').append(parameter.split("=", 2)[0]);
+            return shape.toString();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s | %d | %s", method, path, status, expectation);
+        }
+
+    }
+
+}
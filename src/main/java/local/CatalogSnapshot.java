@@ -0,0 +1,94 @@
+package local;
+
+import io.restassured.RestAssured;
+
+import java.util.*;
+
+import static local.CustomData.BASE_URL;
+import static local.CustomSpecifications.requestSpec;
+import static local.CustomSpecifications.responseSpec;
+
+public class CatalogSnapshot {
+
+    private static final long TTL_MILLIS = Long.getLong("catalog.ttl", 300000L);
+    private static final Object LOCK = new Object();
+
+    private static volatile CatalogSnapshot current;
+
+    private final List<BookFromList> books;
+    private final int[] availableIds;
+    private final int[] unavailableIds;
+    private final Map<String, List<BookFromList>> booksByType;
+    private final long expiresAt;
+
+    private CatalogSnapshot(List<BookFromList> books, long expiresAt) {
+        this.books = List.copyOf(books);
+        this.availableIds = books.stream().filter(BookFromList::getAvailable).mapToInt(BookFromList::getId).toArray();
+        this.unavailableIds = books.stream().filter(book -> !book.getAvailable()).mapToInt(BookFromList::getId).
+                toArray();
+        Map<String, List<BookFromList>> booksByType = new HashMap<>();
+        for (BookFromList book : books)
+            booksByType.computeIfAbsent(book.getType(), key -> new ArrayList<>()).add(book);
+        booksByType.replaceAll((type, list) -> List.copyOf(list));
+        this.booksByType = Map.copyOf(booksByType);
+        this.expiresAt = expiresAt;
+    }
+
+    public static CatalogSnapshot get() {
+        CatalogSnapshot snapshot = current;
+        if (snapshot != null && System.currentTimeMillis() < snapshot.expiresAt)
+            return snapshot;
+        synchronized (LOCK) {
+            snapshot = current;
+            if (snapshot == null || System.currentTimeMillis() >= snapshot.expiresAt) {
+                snapshot = fetch();
+                current = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    public static void invalidate() {
+        current = null;
+    }
+
+    public List<BookFromList> getBooks() {
+        return books;
+    }
+
+    public int firstAvailableId() {
+        return availableIds.length > 0 ? availableIds[0] : 0;
+    }
+
+    public int firstUnavailableId() {
+        return unavailableIds.length > 0 ? unavailableIds[0] : 0;
+    }
+
+    public int anyAvailableId() {
+        if (availableIds.length == 0)
+            throw new IllegalStateException("No available books in the catalog");
+        return availableIds[RandomData.random().nextInt(availableIds.length)];
+    }
+
+    public int[] availableIds(int count) {
+        return Arrays.copyOf(availableIds, Math.min(count, availableIds.length));
+    }
+
+    public List<BookFromList> byType(String type) {
+        return booksByType.getOrDefault(type, List.of());
+    }
+
+    private static CatalogSnapshot fetch() {
+        boolean bypassed = ResponseCacheFilter.isBypassed();
+        ResponseCacheFilter.setBypass(true);
+        try {
+            BookFromList[] books = RestAssured.given().spec(requestSpec(BASE_URL)).when().get("/books").then().
+                    spec(responseSpec(200)).extract().as(BookFromList[].class);
+            return new CatalogSnapshot(Arrays.asList(books), System.currentTimeMillis() + TTL_MILLIS);
+        }
+        finally {
+            ResponseCacheFilter.setBypass(bypassed);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package local;
+
+public class CompactBook {
+
+    public static final int ID = 1;
+    public static final int AVAILABLE = 1 << 1;
+    public static final int PRICE = 1 << 2;
+    public static final int CURRENT_STOCK = 1 << 3;
+
+    int present;
+    int id;
+    String name;
+    String type;
+    boolean available;
+    String author;
+    String isbn;
+    double price;
+    int currentStock;
+
+    CompactBook() {
+    }
+
+    public boolean has(int field) {
+        return (present & field) != 0;
+    }
+
+    public int getId() {
+        require(ID, "id");
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public boolean isAvailable() {
+        require(AVAILABLE, "available");
+        return available;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public double getPrice() {
+        require(PRICE, "price");
+        return price;
+    }
+
+    public int getCurrentStock() {
+        require(CURRENT_STOCK, "current-stock");
+        return currentStock;
+    }
+
+    private void require(int field, String name) {
+        if ((present & field) == 0)
+            throw new IllegalStateException(String.format("Book field \"%s\" is null or missing", name));
+    }
+
+}
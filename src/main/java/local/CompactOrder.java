@@ -0,0 +1,63 @@
+package local;
+
+public class CompactOrder {
+
+    public static final int BOOK_ID = 1;
+    public static final int QUANTITY = 1 << 1;
+    public static final int TIMESTAMP = 1 << 2;
+    public static final int CREATED = 1 << 3;
+
+    int present;
+    String id;
+    int bookId;
+    String customerName;
+    String createdBy;
+    int quantity;
+    long timestamp;
+    boolean created;
+
+    CompactOrder() {
+    }
+
+    public boolean has(int field) {
+        return (present & field) != 0;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getBookId() {
+        require(BOOK_ID, "bookId");
+        return bookId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public int getQuantity() {
+        require(QUANTITY, "quantity");
+        return quantity;
+    }
+
+    public long getTimestamp() {
+        require(TIMESTAMP, "timestamp");
+        return timestamp;
+    }
+
+    public boolean isCreated() {
+        require(CREATED, "created");
+        return created;
+    }
+
+    private void require(int field, String name) {
+        if ((present & field) == 0)
+            throw new IllegalStateException(String.format("Order field \"%s\" is null or missing", name));
+    }
+
+}
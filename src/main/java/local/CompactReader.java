@@ -0,0 +1,186 @@
+package local;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompactReader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    public static List<CompactBook> readBooks(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expect(parser, JsonToken.START_ARRAY);
+            List<CompactBook> books = new ArrayList<>();
+            while (nextElement(parser))
+                books.add(readBook(parser));
+            return books;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static CompactBook readBook(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expect(parser, JsonToken.START_OBJECT);
+            return readBook(parser);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static List<CompactOrder> readOrders(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expect(parser, JsonToken.START_ARRAY);
+            List<CompactOrder> orders = new ArrayList<>();
+            while (nextElement(parser))
+                orders.add(readOrder(parser));
+            return orders;
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public static CompactOrder readOrder(byte[] json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expect(parser, JsonToken.START_OBJECT);
+            return readOrder(parser);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static CompactBook readBook(JsonParser parser) throws IOException {
+        CompactBook book = new CompactBook();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL)
+                continue;
+            switch (field) {
+                case "id":
+                    book.id = integer(parser, field).getIntValue();
+                    book.present |= CompactBook.ID;
+                    break;
+                case "name":
+                    book.name = text(parser, field);
+                    break;
+                case "type":
+                    book.type = text(parser, field);
+                    break;
+                case "available":
+                    book.available = bool(parser, field).getBooleanValue();
+                    book.present |= CompactBook.AVAILABLE;
+                    break;
+                case "author":
+                    book.author = text(parser, field);
+                    break;
+                case "isbn":
+                    book.isbn = text(parser, field);
+                    break;
+                case "price":
+                    book.price = number(parser, field).getDoubleValue();
+                    book.present |= CompactBook.PRICE;
+                    break;
+                case "current-stock":
+                    book.currentStock = integer(parser, field).getIntValue();
+                    book.present |= CompactBook.CURRENT_STOCK;
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return book;
+    }
+
+    private static CompactOrder readOrder(JsonParser parser) throws IOException {
+        CompactOrder order = new CompactOrder();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL)
+                continue;
+            switch (field) {
+                case "id":
+                case "orderId":
+                    order.id = text(parser, field);
+                    break;
+                case "bookId":
+                    order.bookId = integer(parser, field).getIntValue();
+                    order.present |= CompactOrder.BOOK_ID;
+                    break;
+                case "customerName":
+                    order.customerName = text(parser, field);
+                    break;
+                case "createdBy":
+                    order.createdBy = text(parser, field);
+                    break;
+                case "quantity":
+                    order.quantity = integer(parser, field).getIntValue();
+                    order.present |= CompactOrder.QUANTITY;
+                    break;
+                case "timestamp":
+                    order.timestamp = integer(parser, field).getLongValue();
+                    order.present |= CompactOrder.TIMESTAMP;
+                    break;
+                case "created":
+                    order.created = bool(parser, field).getBooleanValue();
+                    order.present |= CompactOrder.CREATED;
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return order;
+    }
+
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY)
+            return false;
+        if (token != JsonToken.START_OBJECT)
+            throw new IOException(String.format("Expected %s or %s but found %s", JsonToken.START_OBJECT,
+                    JsonToken.END_ARRAY, token));
+        return true;
+    }
+
+    private static JsonParser number(JsonParser parser, String field) throws IOException {
+        if (!parser.currentToken().isNumeric())
+            throw new IOException(String.format("Expected a number in %s but found %s", field, parser.getText()));
+        return parser;
+    }
+
+    private static JsonParser integer(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT)
+            throw new IOException(String.format("Expected an integer in %s but found %s", field, parser.getText()));
+        return parser;
+    }
+
+    private static String text(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING)
+            throw new IOException(String.format("Expected a string in %s but found %s", field, parser.getText()));
+        return parser.getText();
+    }
+
+    private static JsonParser bool(JsonParser parser, String field) throws IOException {
+        if (!parser.currentToken().isBoolean())
+            throw new IOException(String.format("Expected a boolean in %s but found %s", field, parser.getText()));
+        return parser;
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != expected)
+            throw new IOException(String.format("Expected %s but found %s", expected, token));
+    }
+
+}
@@ -2,8 +2,8 @@ package local;
 
 public class CustomData {
 
-    public static final String BASE_URL = "https://simple-books-api.glitch.me";
-    public static final int CURRENT_BOOKS_NUMBER = 6;
+    public static final String BASE_URL = ApiConfig.get().getBaseUrl();
+    public static final int CURRENT_BOOKS_NUMBER = ApiConfig.get().getCurrentBooksNumber();
     public static final String WRONG_TYPE = "dieselpunk";
 
 }
@@ -7,19 +7,54 @@ import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class CustomSpecifications {
 
+    private static final Map<String, RequestSpecification> REQUEST_SPECS = new ConcurrentHashMap<>();
+    private static final Map<Integer, ResponseSpecification> RESPONSE_SPECS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Specifications> CURRENT = new ThreadLocal<>();
+
     public static RequestSpecification requestSpec(String url) {
-        return new RequestSpecBuilder().setBaseUri(url).setContentType(ContentType.JSON).build();
+        return REQUEST_SPECS.computeIfAbsent(url, key ->
+                new RequestSpecBuilder().setBaseUri(key).setContentType(ContentType.JSON).
+                        setConfig(HttpClientFactory.config()).addFilter(AllureCaptureFilter.get()).
+                        addFilter(ResponseCacheFilter.get()).addFilter(RequestLoggingFilter.get()).
+                        addFilter(LatencyFilter.get()).build());
     }
 
     public static ResponseSpecification responseSpec(int code) {
-        return new ResponseSpecBuilder().expectStatusCode(code).build();
+        return RESPONSE_SPECS.computeIfAbsent(code, key ->
+                new ResponseSpecBuilder().expectStatusCode(key).build());
     }
 
     public static void setSpecifications(RequestSpecification request, ResponseSpecification response) {
-        RestAssured.requestSpecification = request;
-        RestAssured.responseSpecification = response;
+        CURRENT.set(new Specifications(request, response));
+    }
+
+    public static void clearSpecifications() {
+        CURRENT.remove();
+    }
+
+    public static RequestSpecification given() {
+        Specifications specifications = CURRENT.get();
+        if (specifications == null)
+            return RestAssured.given();
+        return RestAssured.given().spec(specifications.request).
+                response().spec(specifications.response).request();
+    }
+
+    private static class Specifications {
+
+        private final RequestSpecification request;
+        private final ResponseSpecification response;
+
+        private Specifications(RequestSpecification request, ResponseSpecification response) {
+            this.request = request;
+            this.response = response;
+        }
+
     }
 
 }
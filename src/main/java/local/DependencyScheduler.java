@@ -0,0 +1,122 @@
+package local;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class DependencyScheduler implements BeforeAllCallback, BeforeEachCallback, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(DependencyScheduler.class);
+    private static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+    private static final String TIMEOUT = "dependency.scheduler.timeout";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        Map<String, String[]> graph = new HashMap<>();
+        for (Method method : context.getRequiredTestClass().getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(Test.class))
+                continue;
+            DependsOn dependsOn = method.getAnnotation(DependsOn.class);
+            graph.put(method.getName(), dependsOn == null ? new String[0] : dependsOn.value());
+        }
+        for (Map.Entry<String, String[]> entry : graph.entrySet())
+            for (String dependency : entry.getValue())
+                if (!graph.containsKey(dependency))
+                    throw new ExtensionConfigurationException(String.format(
+                            "Test %s depends on unknown test %s", entry.getKey(), dependency));
+        Set<String> visited = new HashSet<>();
+        for (String name : graph.keySet())
+            checkCycles(name, graph, visited, new LinkedHashSet<>());
+        Map<String, CompletableFuture<Boolean>> results = new ConcurrentHashMap<>();
+        for (String name : graph.keySet())
+            results.put(name, new CompletableFuture<>());
+        context.getStore(NAMESPACE).put(context.getRequiredTestClass(), results);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws Exception {
+        DependsOn dependsOn = context.getRequiredTestMethod().getAnnotation(DependsOn.class);
+        if (dependsOn == null)
+            return;
+        boolean parallel = context.getConfigurationParameter(PARALLEL_ENABLED).
+                map(Boolean::parseBoolean).orElse(false);
+        long timeout = context.getConfigurationParameter(TIMEOUT).map(Long::parseLong).orElse(300L);
+        Map<String, CompletableFuture<Boolean>> results = results(context);
+        for (String dependency : dependsOn.value()) {
+            CompletableFuture<Boolean> result = results.get(dependency);
+            if (parallel)
+                await(result, timeout);
+            else if (!result.isDone())
+                continue;
+            assumeTrue(result.getNow(false), String.format("Dependency %s did not pass", dependency));
+        }
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        complete(context, true);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        complete(context, false);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        complete(context, false);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        complete(context, false);
+    }
+
+    private void complete(ExtensionContext context, boolean passed) {
+        results(context).get(context.getRequiredTestMethod().getName()).complete(passed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, CompletableFuture<Boolean>> results(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(context.getRequiredTestClass(), Map.class);
+    }
+
+    private void checkCycles(String name, Map<String, String[]> graph, Set<String> visited, Set<String> path) {
+        if (!path.add(name))
+            throw new ExtensionConfigurationException("Cyclic test dependencies: " + path + " -> " + name);
+        if (visited.add(name))
+            for (String dependency : graph.get(name))
+                checkCycles(dependency, graph, visited, path);
+        path.remove(name);
+    }
+
+    private void await(CompletableFuture<Boolean> result, long timeoutSeconds) throws Exception {
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() {
+                try {
+                    result.get(timeoutSeconds, TimeUnit.SECONDS);
+                }
+                catch (ExecutionException | TimeoutException exception) {
+                    return true;
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return result.isDone();
+            }
+        });
+    }
+
+}
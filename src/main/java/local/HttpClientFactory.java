@@ -0,0 +1,77 @@
+package local;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+
+@SuppressWarnings("deprecation")
+public class HttpClientFactory {
+
+    private static final long DEFAULT_KEEP_ALIVE = Long.getLong("http.keepAlive", 30000L);
+    private static final ConnectionKeepAliveStrategy KEEP_ALIVE = new ConnectionKeepAliveStrategy() {
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+            BasicHeaderElementIterator iterator =
+                    new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (iterator.hasNext()) {
+                HeaderElement element = iterator.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Long.parseLong(element.getValue()) * 1000;
+                    }
+                    catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+            return DEFAULT_KEEP_ALIVE;
+        }
+    };
+    private static final PoolingClientConnectionManager CONNECTION_MANAGER = connectionManager();
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config().httpClient(
+            HttpClientConfig.httpClientConfig().reuseHttpClientInstance().
+                    httpClientFactory(HttpClientFactory::createHttpClient));
+
+    static {
+        if (Boolean.getBoolean("http.pool.stats"))
+            Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                    System.out.println("HTTP connection pool: " + poolStats()), "http-pool-stats"));
+    }
+
+    public static RestAssuredConfig config() {
+        return CONFIG;
+    }
+
+    public static PoolStats poolStats() {
+        return CONNECTION_MANAGER.getTotalStats();
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        ApiConfig apiConfig = ApiConfig.get();
+        DefaultHttpClient client = new DefaultHttpClient(CONNECTION_MANAGER);
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), apiConfig.getConnectTimeout());
+        HttpConnectionParams.setSoTimeout(client.getParams(), apiConfig.getSocketTimeout());
+        HttpConnectionParams.setTcpNoDelay(client.getParams(), true);
+        client.setKeepAliveStrategy(KEEP_ALIVE);
+        return client;
+    }
+
+    private static PoolingClientConnectionManager connectionManager() {
+        int parallelism = Boolean.getBoolean("junit.jupiter.execution.parallel.enabled") ?
+                Integer.getInteger("junit.jupiter.execution.parallel.config.fixed.parallelism", 1) : 1;
+        int maxPerRoute = Math.max(ApiConfig.get().getMaxConnections(), parallelism);
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(maxPerRoute);
+        manager.setDefaultMaxPerRoute(maxPerRoute);
+        return manager;
+    }
+
+}
@@ -0,0 +1,74 @@
+package local;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import io.restassured.response.ValidatableResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+public class JsonBody {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode tree;
+
+    private JsonBody(JsonNode tree) {
+        this.tree = tree;
+    }
+
+    public static JsonBody validated(ValidatableResponse response, String schemaName) {
+        return validated(response.extract().asByteArray(), schemaName);
+    }
+
+    public static JsonBody validated(byte[] body, String schemaName) {
+        JsonNode tree;
+        try {
+            tree = MAPPER.readTree(body);
+        }
+        catch (IOException exception) {
+            throw new AssertionError("Response body is not valid JSON: " + exception.getMessage(), exception);
+        }
+        SchemaRegistry.CompiledSchema schema = SchemaRegistry.schema(schemaName);
+        try {
+            ProcessingReport report = schema.validate(tree);
+            if (!report.isSuccess())
+                throw new AssertionError(String.format("Response body doesn't match %s:%n%s",
+                        schemaName, report));
+        }
+        catch (ProcessingException exception) {
+            throw new AssertionError("Cannot validate response body against " + schemaName, exception);
+        }
+        return new JsonBody(tree);
+    }
+
+    public JsonNode getTree() {
+        return tree;
+    }
+
+    public String get(String field) {
+        JsonNode value = tree.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    public <T> T as(Class<T> type) {
+        try {
+            return MAPPER.treeToValue(tree, type);
+        }
+        catch (IOException exception) {
+            throw new AssertionError("Cannot bind response body to " + type.getSimpleName(), exception);
+        }
+    }
+
+    public <T> List<T> asList(Class<T> type) {
+        try {
+            return MAPPER.readerForListOf(type).readValue(tree);
+        }
+        catch (IOException exception) {
+            throw new AssertionError("Cannot bind response body to a list of " + type.getSimpleName(), exception);
+        }
+    }
+
+}
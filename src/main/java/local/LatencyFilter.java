@@ -0,0 +1,77 @@
+package local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class LatencyFilter implements OrderedFilter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final LatencyFilter INSTANCE = new LatencyFilter();
+
+    private final LatencyStats stats = new LatencyStats();
+    private final Path report = Paths.get(System.getProperty("latency.report", "target/latency-report.json"));
+
+    public static LatencyFilter get() {
+        return INSTANCE;
+    }
+
+    public LatencyStats getStats() {
+        return stats;
+    }
+
+    public String writeReport() throws IOException {
+        String json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(stats.toJson(0));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, json);
+        return json;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification response,
+                           FilterContext context) {
+        long start = System.nanoTime();
+        Response result;
+        try {
+            result = context.next(request, response);
+        }
+        catch (Exception exception) {
+            stats.recordError(request.getMethod() + " " + pathTemplate(request.getUserDefinedPath()));
+            throw exception;
+        }
+        stats.record(request.getMethod() + " " + pathTemplate(request.getUserDefinedPath()) + " " +
+                result.getStatusCode(), System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    static String pathTemplate(String path) {
+        int query = path.indexOf('?');
+        if (query >= 0)
+            path = path.substring(0, query);
+        if (!path.startsWith("/"))
+            path = "/" + path;
+        if (path.indexOf('{') >= 0)
+            return path;
+        String[] segments = path.split("/");
+        StringBuilder template = new StringBuilder(path.length());
+        for (int i = 1; i < segments.length; i++) {
+            template.append('/');
+            template.append(i == 2 ? "{id}" : segments[i]);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+}
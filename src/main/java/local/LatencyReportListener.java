@@ -0,0 +1,48 @@
+package local;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public class LatencyReportListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (LatencyFilter.get().getStats().isEmpty())
+            return;
+        String json;
+        try {
+            json = LatencyFilter.get().writeReport();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Cannot write latency report", exception);
+        }
+        attach(json);
+    }
+
+    private static void attach(String json) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(uuid).setName("Latency report").
+                setDescription("p50/p90/p99/p99.9/max latency of every request of the run, keyed by method, " +
+                        "path template and status.").setStatus(Status.PASSED));
+        lifecycle.startTestCase(uuid);
+        try {
+            lifecycle.addAttachment("Latency per endpoint", "application/json", ".json",
+                    json.getBytes(StandardCharsets.UTF_8));
+        }
+        finally {
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toNanos(10);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public void record(String key, long nanos) {
+        entry(key).histogram.recordValue(Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE));
+    }
+
+    public void recordError(String key) {
+        entry(key).errors.increment();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public ObjectNode toJson(double durationSeconds) {
+        ObjectNode report = MAPPER.createObjectNode();
+        for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            ObjectNode node = report.putObject(entry.getKey());
+            node.put("count", histogram.getTotalCount());
+            node.put("errors", entry.getValue().errors.sum());
+            if (durationSeconds > 0)
+                node.put("throughput", round(histogram.getTotalCount() / durationSeconds));
+            node.put("p50", millis(histogram.getValueAtPercentile(50)));
+            node.put("p90", millis(histogram.getValueAtPercentile(90)));
+            node.put("p99", millis(histogram.getValueAtPercentile(99)));
+            node.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+            node.put("max", millis(histogram.getMaxValue()));
+        }
+        return report;
+    }
+
+    public String toTable(double durationSeconds) {
+        StringBuilder table = new StringBuilder(String.format("%-28s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms"));
+        for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            table.append(String.format("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    histogram.getTotalCount(), entry.getValue().errors.sum(),
+                    durationSeconds > 0 ? histogram.getTotalCount() / durationSeconds : 0,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+        }
+        return table.toString();
+    }
+
+    private Entry entry(String key) {
+        return entries.computeIfAbsent(key, name -> new Entry());
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static class Entry {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+        private final LongAdder errors = new LongAdder();
+
+    }
+
+}
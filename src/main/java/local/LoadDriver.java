@@ -0,0 +1,74 @@
+package local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadDriver {
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        if (System.getProperty("log.policy") == null)
+            System.setProperty("log.policy", "off");
+        double rps = Double.parseDouble(System.getProperty("load.rps", "10"));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.duration", 60L));
+        long rampUpNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.rampUp", 0L));
+        int concurrency = Integer.getInteger("load.concurrency", 64);
+        String executorKind = ScenarioExecutors.kind();
+        Path report = Paths.get(System.getProperty("load.report", "target/load-report.json"));
+
+        ExecutorService executor = ScenarioExecutors.create(executorKind, concurrency);
+        if (System.getProperty("books.api.maxConnections") == null &&
+                System.getenv("BOOKS_API_MAX_CONNECTIONS") == null)
+            System.setProperty("books.api.maxConnections", String.valueOf(concurrency));
+
+        System.out.printf("Load: %.1f scenarios/s for %d s (ramp-up %d s, concurrency %d, %s threads) against %s%n",
+                rps, TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(rampUpNanos),
+                concurrency, executorKind, ApiConfig.get().getBaseUrl());
+        LatencyStats stats = new LatencyStats();
+        boolean registerClients = Boolean.getBoolean("load.registerClients");
+        OrderLifecycleScenario scenario = new OrderLifecycleScenario(stats, registerClients);
+        CatalogSnapshot.get();
+        if (!registerClients)
+            System.out.printf("Token pool: %d API clients%n", TokenPool.shared().size());
+        PinningMonitor pinning = ScenarioExecutors.VIRTUAL.equals(executorKind) ?
+                PinningMonitor.start(Long.getLong("scenario.pinningThreshold", 20L)) : null;
+        long start = System.nanoTime();
+        for (long arrival = 0; ; arrival++) {
+            long intendedStart = start + arrivalOffset(arrival, rps, rampUpNanos);
+            if (intendedStart - start >= durationNanos)
+                break;
+            long delay;
+            while ((delay = intendedStart - System.nanoTime()) > 0)
+                LockSupport.parkNanos(delay);
+            executor.execute(() -> scenario.run(intendedStart));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        if (pinning != null)
+            pinning.close();
+
+        System.out.print(stats.toTable(elapsedSeconds));
+        if (pinning != null)
+            System.out.print(pinning.report());
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(report.toFile(), stats.toJson(elapsedSeconds));
+        System.out.println("Report: " + report.toAbsolutePath());
+    }
+
+    static long arrivalOffset(long arrival, double rps, long rampUpNanos) {
+        double rampUp = rampUpNanos / 1e9;
+        double rampUpArrivals = rps * rampUp / 2;
+        double seconds = arrival < rampUpArrivals ?
+                Math.sqrt(2 * rampUp * arrival / rps) :
+                rampUp + (arrival - rampUpArrivals) / rps;
+        return (long) (seconds * 1e9);
+    }
+
+}
@@ -0,0 +1,389 @@
+package local;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+public class LocalBooksApi {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s.]+(\\.[^@\\s.]+)*\\.[^@\\s.]{2,}$");
+    private static final String ID_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz_-";
+    private static final int MAX_LIMIT = 20;
+
+    private static volatile LocalBooksApi shared;
+
+    private final List<SingleBook> books = List.of(
+            new SingleBook(1, "The Russian", "James Patterson and James O. Born", "1780899475",
+                    "fiction", 12.98, 12, true),
+            new SingleBook(2, "Just as I Am", "Cicely Tyson", "0062931083",
+                    "non-fiction", 20.33, 0, false),
+            new SingleBook(3, "The Vanishing Half", "Brit Bennett", "0525536299",
+                    "fiction", 16.20, 987, true),
+            new SingleBook(4, "The Midnight Library", "Matt Haig", "0525559477",
+                    "fiction", 15.60, 87, true),
+            new SingleBook(5, "Untamed", "Glennon Doyle", "1984801252",
+                    "non-fiction", 14.90, 24, true),
+            new SingleBook(6, "Viscount Who Loved Me", "Julia Quinn", "0062353640",
+                    "fiction", 15.60, 3, true));
+    private final Map<String, String> clientsByEmail = new ConcurrentHashMap<>();
+    private final Map<String, String> clientIdsByToken = new ConcurrentHashMap<>();
+    private final Map<String, DetailedOrder> orders = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private LocalBooksApi(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 256);
+        executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "local-books-api");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static LocalBooksApi start() {
+        return start(0);
+    }
+
+    public static LocalBooksApi start(int port) {
+        try {
+            LocalBooksApi api = new LocalBooksApi(port);
+            // HttpServer's dispatcher thread inherits daemon status from the thread that starts it, so start it
+            // from a daemon thread; otherwise the dispatcher keeps the JVM alive after the tests finish.
+            Thread starter = new Thread(api.server::start, "local-books-api-starter");
+            starter.setDaemon(true);
+            starter.start();
+            starter.join();
+            return api;
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Cannot start local Simple Books API", exception);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting local Simple Books API", exception);
+        }
+    }
+
+    public static LocalBooksApi shared() {
+        if (shared == null) {
+            synchronized (LocalBooksApi.class) {
+                if (shared == null) {
+                    shared = start();
+                    Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "local-books-api-shutdown"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return String.format("http://%s:%d", address.getHostString(), address.getPort());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String[] segments = exchange.getRequestURI().getRawPath().replaceAll("^/+|/+$", "").split("/");
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String resource = segments[0];
+            String id = segments.length == 2 ? URLDecoder.decode(segments[1], StandardCharsets.UTF_8) : null;
+            if (segments.length > 2)
+                notFound(exchange);
+            else if (resource.equals("status") && id == null && method.equals("GET"))
+                send(exchange, 200, MAPPER.createObjectNode().put("status", "OK"));
+            else if (resource.equals("books") && method.equals("GET"))
+                if (id == null)
+                    getBooks(exchange, query);
+                else
+                    getBook(exchange, id);
+            else if (resource.equals("api-clients") && id == null && method.equals("POST"))
+                postApiClients(exchange);
+            else if (resource.equals("orders"))
+                orders(exchange, method, id);
+            else
+                notFound(exchange);
+        }
+        catch (RuntimeException exception) {
+            sendError(exchange, 500, "Internal server error.");
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+    private void getBooks(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String type = query.getOrDefault("type", "");
+        if (!type.isEmpty() && !type.equals("fiction") && !type.equals("non-fiction")) {
+            sendError(exchange, 400,
+                    "Invalid value for query parameter 'type'. Must be one of: fiction, non-fiction.");
+            return;
+        }
+        Integer limit = parseInt(query.get("limit"));
+        if (limit != null && limit < 0) {
+            sendError(exchange, 400, "Invalid value for query parameter 'limit'. Must be greater than 0.");
+            return;
+        }
+        if (limit != null && limit > MAX_LIMIT) {
+            sendError(exchange, 400,
+                    String.format("Invalid value for query parameter 'limit'. Cannot be greater than %d.",
+                            MAX_LIMIT));
+            return;
+        }
+        ArrayNode body = MAPPER.createArrayNode();
+        for (SingleBook book : books) {
+            if (limit != null && limit > 0 && body.size() == limit)
+                break;
+            if (type.isEmpty() || type.equals(book.getType()))
+                body.addObject().put("id", book.getId()).put("name", book.getName()).
+                        put("type", book.getType()).put("available", book.getAvailable());
+        }
+        send(exchange, 200, body);
+    }
+
+    private void getBook(HttpExchange exchange, String rawId) throws IOException {
+        Integer id = parseInt(rawId);
+        SingleBook book = findBook(id);
+        if (book == null) {
+            sendError(exchange, 404, "No book with id " + (id == null ? "NaN" : id));
+            return;
+        }
+        send(exchange, 200, MAPPER.createObjectNode().put("id", book.getId()).put("name", book.getName()).
+                put("author", book.getAuthor()).put("isbn", book.getIsbn()).put("type", book.getType()).
+                put("price", book.getPrice()).put("current-stock", book.getCurrentStock()).
+                put("available", book.getAvailable()));
+    }
+
+    private void postApiClients(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        String clientName = body.path("clientName").isTextual() ? body.get("clientName").asText() : null;
+        String clientEmail = body.path("clientEmail").isTextual() ? body.get("clientEmail").asText() : null;
+        if (clientName == null || clientName.length() < 2) {
+            sendError(exchange, 400, "Invalid or missing client name.");
+            return;
+        }
+        if (clientEmail == null || !EMAIL.matcher(clientEmail).matches()) {
+            sendError(exchange, 400, "Invalid or missing client email.");
+            return;
+        }
+        String token = randomHex(32);
+        if (clientsByEmail.putIfAbsent(clientEmail.toLowerCase(Locale.ROOT), token) != null) {
+            sendError(exchange, 409, "API client already registered. Try a different email.");
+            return;
+        }
+        clientIdsByToken.put(token, randomHex(32));
+        send(exchange, 201, MAPPER.createObjectNode().put("accessToken", token));
+    }
+
+    private void orders(HttpExchange exchange, String method, String id) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null) {
+            sendError(exchange, 401, "Missing Authorization header.");
+            return;
+        }
+        String clientId = clientIdsByToken.get(authorization.replaceFirst("(?i)^Bearer\\s+", ""));
+        if (clientId == null) {
+            sendError(exchange, 401, "Invalid bearer token.");
+            return;
+        }
+        if (id == null) {
+            if (method.equals("GET"))
+                send(exchange, 200, MAPPER.valueToTree(orders.values().stream().
+                        filter(order -> order.getCreatedBy().equals(clientId)).toArray()));
+            else if (method.equals("POST"))
+                postOrder(exchange, clientId);
+            else
+                notFound(exchange);
+            return;
+        }
+        DetailedOrder order = orders.get(id);
+        if (order == null || !order.getCreatedBy().equals(clientId)) {
+            sendError(exchange, 404, String.format("No order with id %s.", id));
+            return;
+        }
+        switch (method) {
+            case "GET":
+                send(exchange, 200, MAPPER.valueToTree(order));
+                break;
+            case "PATCH":
+                String customerName = readBody(exchange).path("customerName").asText("");
+                if (customerName.isEmpty()) {
+                    sendError(exchange, 400, "Invalid or missing customerName.");
+                    return;
+                }
+                orders.computeIfPresent(id, (key, current) -> new DetailedOrder(current.getId(),
+                        current.getBookId(), customerName, current.getCreatedBy(), current.getQuantity(),
+                        current.getTimestamp()));
+                send(exchange, 204, null);
+                break;
+            case "DELETE":
+                orders.remove(id);
+                send(exchange, 204, null);
+                break;
+            default:
+                notFound(exchange);
+        }
+    }
+
+    private void postOrder(HttpExchange exchange, String clientId) throws IOException {
+        JsonNode body = readBody(exchange);
+        JsonNode rawBookId = body.path("bookId");
+        Integer bookId = rawBookId.isNumber() ? Integer.valueOf(rawBookId.intValue()) :
+                rawBookId.isTextual() ? parseInt(rawBookId.asText()) : null;
+        SingleBook book = findBook(bookId);
+        if (book == null) {
+            sendError(exchange, 400, "Invalid or missing bookId.");
+            return;
+        }
+        if (!book.getAvailable()) {
+            sendError(exchange, 404, "This book is not in stock. Try again later.");
+            return;
+        }
+        String customerName = body.path("customerName").asText("");
+        if (customerName.isEmpty()) {
+            sendError(exchange, 400, "Invalid or missing customerName.");
+            return;
+        }
+        String orderId = randomOrderId();
+        orders.put(orderId, new DetailedOrder(orderId, bookId, customerName, clientId, 1,
+                System.currentTimeMillis()));
+        send(exchange, 201, MAPPER.valueToTree(new CreatedOrder(true, orderId)));
+    }
+
+    private SingleBook findBook(Integer id) {
+        if (id == null)
+            return null;
+        for (SingleBook book : books)
+            if (book.getId().equals(id))
+                return book;
+        return null;
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            byte[] bytes = input.readAllBytes();
+            if (bytes.length == 0)
+                return MAPPER.createObjectNode();
+            JsonNode node = MAPPER.readTree(bytes);
+            return node == null ? MAPPER.createObjectNode() : node;
+        }
+        catch (IOException exception) {
+            return MAPPER.createObjectNode();
+        }
+    }
+
+    private void notFound(HttpExchange exchange) throws IOException {
+        sendError(exchange, 404, "Not found.");
+    }
+
+    private void sendError(HttpExchange exchange, int code, String error) throws IOException {
+        send(exchange, code, MAPPER.createObjectNode().put("error", error));
+    }
+
+    private void send(HttpExchange exchange, int code, JsonNode body) throws IOException {
+        exchange.getRequestBody().close();
+        if (body == null) {
+            exchange.sendResponseHeaders(code, -1);
+            return;
+        }
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (code == 200 && exchange.getRequestMethod().equals("GET")) {
+            String etag = etag(bytes);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(body);
+            return String.format("W/\"%x-%s\"", body.length,
+                    Base64.getEncoder().encodeToString(digest).substring(0, 27));
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String randomHex(int bytes) {
+        byte[] buffer = new byte[bytes];
+        random.nextBytes(buffer);
+        StringBuilder builder = new StringBuilder(bytes * 2);
+        for (byte value : buffer)
+            builder.append(String.format("%02x", value));
+        return builder.toString();
+    }
+
+    private String randomOrderId() {
+        char[] id = new char[21];
+        for (int i = 0; i < id.length; i++)
+            id[i] = ID_ALPHABET.charAt(random.nextInt(ID_ALPHABET.length()));
+        return new String(id);
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null)
+            return query;
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.putIfAbsent(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static Integer parseInt(String value) {
+        if (value == null)
+            return null;
+        String trimmed = value.trim();
+        int end = trimmed.startsWith("-") || trimmed.startsWith("+") ? 1 : 0;
+        while (end < trimmed.length() && Character.isDigit(trimmed.charAt(end)))
+            end++;
+        try {
+            return Integer.valueOf(trimmed.substring(0, end));
+        }
+        catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+}
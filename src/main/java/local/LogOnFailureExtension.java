@@ -0,0 +1,27 @@
+package local;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class LogOnFailureExtension implements BeforeEachCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RequestLoggingFilter.clear();
+        AllureCaptureFilter.clear();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            RequestLoggingFilter.dump();
+            AllureCaptureFilter.attach();
+        }
+        else {
+            RequestLoggingFilter.clear();
+            AllureCaptureFilter.clear();
+        }
+    }
+
+}
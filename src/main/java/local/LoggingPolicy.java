@@ -0,0 +1,19 @@
+package local;
+
+import java.util.Locale;
+
+public enum LoggingPolicy {
+
+    OFF, ON_FAILURE, SAMPLED, FULL;
+
+    private static final LoggingPolicy CURRENT = parse(System.getProperty("log.policy", "on_failure"));
+
+    public static LoggingPolicy current() {
+        return CURRENT;
+    }
+
+    public static LoggingPolicy parse(String value) {
+        return LoggingPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+}
@@ -0,0 +1,183 @@
+package local;
+
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import static local.CustomData.BASE_URL;
+import static local.CustomSpecifications.requestSpec;
+import static local.CustomSpecifications.responseSpec;
+
+public class OrderBatch {
+
+    private final String baseUrl;
+    private final String accessToken;
+    private final int maxInFlight;
+
+    public OrderBatch(String accessToken, int maxInFlight) {
+        this(BASE_URL, accessToken, maxInFlight);
+    }
+
+    public OrderBatch(String baseUrl, String accessToken, int maxInFlight) {
+        if (maxInFlight < 1)
+            throw new IllegalArgumentException("In-flight limit must be positive: " + maxInFlight);
+        this.baseUrl = baseUrl;
+        this.accessToken = accessToken;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public List<Result<RequestOrder, CreatedOrder>> create(List<RequestOrder> orders) {
+        return run(orders, order -> request().body(order).when().post("/orders").then().
+                spec(responseSpec(201)).extract().as(CreatedOrder.class));
+    }
+
+    public List<DetailedOrder> list() {
+        return Arrays.asList(request().when().get("/orders").then().
+                spec(responseSpec(200)).extract().as(DetailedOrder[].class));
+    }
+
+    public Set<String> missing(Collection<String> orderIds) {
+        Set<String> missing = new LinkedHashSet<>(orderIds);
+        for (DetailedOrder order : list())
+            missing.remove(order.getId());
+        return missing;
+    }
+
+    public List<Result<String, String>> delete(List<String> orderIds) {
+        return run(orderIds, orderId -> {
+            request().when().delete("/orders/" + orderId).then().spec(responseSpec(204));
+            return orderId;
+        });
+    }
+
+    public List<Result<String, String>> deleteAll() {
+        List<String> orderIds = new ArrayList<>();
+        for (DetailedOrder order : list())
+            orderIds.add(order.getId());
+        return delete(orderIds);
+    }
+
+    public static <I, O> List<O> successes(List<Result<I, O>> results) {
+        List<O> successes = new ArrayList<>(results.size());
+        for (Result<I, O> result : results)
+            if (result.isSuccess())
+                successes.add(result.getOutput());
+        return successes;
+    }
+
+    public static <I, O> List<Result<I, O>> failures(List<Result<I, O>> results) {
+        List<Result<I, O>> failures = new ArrayList<>();
+        for (Result<I, O> result : results)
+            if (!result.isSuccess())
+                failures.add(result);
+        return failures;
+    }
+
+    private RequestSpecification request() {
+        return RestAssured.given().spec(requestSpec(baseUrl)).auth().preemptive().oauth2(accessToken);
+    }
+
+    private <I, O> List<Result<I, O>> run(List<I> inputs, Function<I, O> call) {
+        List<Future<Result<I, O>>> futures = new ArrayList<>(inputs.size());
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService executor = ScenarioExecutors.create(maxInFlight);
+        try {
+            for (int i = 0; i < inputs.size(); i++) {
+                int index = i;
+                I input = inputs.get(i);
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return new Result<I, O>(index, input, call.apply(input), null);
+                    }
+                    catch (Exception | AssertionError exception) {
+                        return new Result<I, O>(index, input, null, exception);
+                    }
+                    finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            List<Result<I, O>> results = new ArrayList<>(futures.size());
+            for (Future<Result<I, O>> future : futures)
+                results.add(future.get());
+            return results;
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running order batch", exception);
+        }
+        catch (ExecutionException exception) {
+            throw new IllegalStateException("Order batch task failed", exception.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static void main(String[] args) {
+        List<String> tokens = args.length > 0 ? Arrays.asList(args) :
+                Collections.singletonList(RunContext.get().getString("accessToken"));
+        int maxInFlight = Integer.getInteger("orders.batch.maxInFlight", 16);
+        for (String token : tokens) {
+            if (token == null)
+                continue;
+            List<Result<String, String>> results = new OrderBatch(token, maxInFlight).deleteAll();
+            List<Result<String, String>> failures = failures(results);
+            System.out.printf("Deleted %d of %d orders of client %s...%n", results.size() - failures.size(),
+                    results.size(), token.substring(0, Math.min(8, token.length())));
+            for (Result<String, String> failure : failures)
+                System.out.println("  " + failure);
+        }
+    }
+
+    public static class Result<I, O> {
+
+        private final int index;
+        private final I input;
+        private final O output;
+        private final Throwable error;
+
+        private Result(int index, I input, O output, Throwable error) {
+            this.index = index;
+            this.input = input;
+            this.output = output;
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public I getInput() {
+            return input;
+        }
+
+        public O getOutput() {
+            return output;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess() ?
+                    String.format("#%d %s", index, output) :
+                    String.format("#%d %s failed: %s", index, input, error.toString().replaceAll("\\s+", " ").trim());
+        }
+
+    }
+
+}
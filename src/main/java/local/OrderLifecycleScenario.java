@@ -0,0 +1,72 @@
+package local;
+
+import java.util.function.Supplier;
+
+import static local.CustomData.BASE_URL;
+import static local.CustomFunctions.randomEmail;
+import static local.CustomFunctions.randomString;
+import static local.CustomSpecifications.*;
+
+public class OrderLifecycleScenario {
+
+    public static final String SCENARIO = "order lifecycle";
+
+    private final LatencyStats stats;
+    private final boolean registerClients;
+
+    public OrderLifecycleScenario(LatencyStats stats, boolean registerClients) {
+        this.stats = stats;
+        this.registerClients = registerClients;
+    }
+
+    public boolean run(long intendedStartNanos) {
+        try {
+            String accessToken;
+            long orderStartNanos;
+            if (registerClients) {
+                accessToken = step("POST /api-clients", 201, intendedStartNanos, () ->
+                        given().body(new Client(randomString(10), randomEmail())).when().post("/api-clients").
+                                then().extract().path("accessToken"));
+                orderStartNanos = System.nanoTime();
+            }
+            else {
+                accessToken = TokenPool.shared().lease();
+                orderStartNanos = intendedStartNanos;
+            }
+            int bookId = CatalogSnapshot.get().anyAvailableId();
+            String orderId = step("POST /orders", 201, orderStartNanos, () ->
+                    given().auth().preemptive().oauth2(accessToken).
+                            body(new RequestOrder(bookId, randomString(10))).when().post("/orders").
+                            then().extract().path("orderId"));
+            step("GET /orders", 200, System.nanoTime(), () ->
+                    given().auth().preemptive().oauth2(accessToken).when().get("/orders").then().
+                            extract().asByteArray());
+            step("PATCH /orders/{id}", 204, System.nanoTime(), () ->
+                    given().auth().preemptive().oauth2(accessToken).
+                            body(String.format("{\"customerName\": \"%s\"}", randomString(10))).
+                            when().patch("/orders/" + orderId).then());
+            step("DELETE /orders/{id}", 204, System.nanoTime(), () ->
+                    given().auth().preemptive().oauth2(accessToken).when().delete("/orders/" + orderId).then());
+            stats.record(SCENARIO, System.nanoTime() - intendedStartNanos);
+            return true;
+        }
+        catch (Exception | AssertionError exception) {
+            stats.recordError(SCENARIO);
+            return false;
+        }
+    }
+
+    private <T> T step(String endpoint, int expectedStatus, long startNanos, Supplier<T> call) {
+        setSpecifications(requestSpec(BASE_URL), responseSpec(expectedStatus));
+        try {
+            T result = call.get();
+            stats.record(endpoint, System.nanoTime() - startNanos);
+            return result;
+        }
+        catch (Exception | AssertionError exception) {
+            stats.recordError(endpoint);
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package local;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PinningMonitor implements AutoCloseable {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int TOP_FRAMES = 5;
+
+    private final RecordingStream stream = new RecordingStream();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> frames = new ConcurrentHashMap<>();
+
+    private PinningMonitor(long thresholdMillis) {
+        stream.enable(EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    public static PinningMonitor start(long thresholdMillis) {
+        return new PinningMonitor(thresholdMillis);
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("Virtual thread pinning: %d events, %.2f ms pinned%n",
+                events.sum(), pinnedNanos.sum() / 1e6));
+        frames.entrySet().stream().
+                sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).
+                        reversed()).
+                limit(TOP_FRAMES).
+                forEach(entry -> report.append(String.format("  %6d  %s%n", entry.getValue().sum(), entry.getKey())));
+        return report.toString();
+    }
+
+    @Override
+    public void close() {
+        CountDownLatch flushes = new CountDownLatch(2);
+        stream.onFlush(flushes::countDown);
+        try {
+            if (!flushes.await(10, TimeUnit.SECONDS))
+                System.out.println("Virtual thread pinning events may be missing: JFR did not flush in time");
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        events.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        frames.computeIfAbsent(pinningFrame(event.getStackTrace()), key -> new LongAdder()).increment();
+    }
+
+    private static String pinningFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null)
+            return "<no stack trace>";
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun."))
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return "<JDK frames only>";
+    }
+
+}
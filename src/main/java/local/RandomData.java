@@ -0,0 +1,84 @@
+package local;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+public class RandomData {
+
+    private static final char[] LETTERS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int NAME_LENGTH = 10;
+    private static final int EMAIL_PREFIX_LENGTH = 8;
+    private static final int EMAIL_DOMAIN_LENGTH = 10;
+    private static final int EMAIL_ZONE_LENGTH = 2;
+
+    private static final Long SEED = Long.getLong("random.seed");
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ThreadLocal<RandomGenerator> SEEDED = ThreadLocal.withInitial(() ->
+            new SplittableRandom(SEED + 0x9E3779B97F4A7C15L * THREADS.getAndIncrement()));
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36);
+    private static final AtomicLong EMAILS = new AtomicLong();
+
+    public static RandomGenerator random() {
+        return SEED == null ? ThreadLocalRandom.current() : SEEDED.get();
+    }
+
+    public static String letters(int length) {
+        char[] buffer = buffer(length);
+        fillLetters(random(), buffer, 0, length);
+        return new String(buffer, 0, length);
+    }
+
+    public static String name() {
+        return letters(NAME_LENGTH);
+    }
+
+    public static String email() {
+        RandomGenerator random = random();
+        long serial = EMAILS.incrementAndGet();
+        int serialLength = base36Length(serial);
+        int length = EMAIL_PREFIX_LENGTH + RUN_ID.length() + serialLength + 1 + EMAIL_DOMAIN_LENGTH + 1 +
+                EMAIL_ZONE_LENGTH;
+        char[] buffer = buffer(length);
+        int position = fillLetters(random, buffer, 0, EMAIL_PREFIX_LENGTH);
+        RUN_ID.getChars(0, RUN_ID.length(), buffer, position);
+        position += RUN_ID.length();
+        for (int i = position + serialLength - 1; i >= position; i--, serial /= 36)
+            buffer[i] = DIGITS[(int) (serial % 36)];
+        position += serialLength;
+        buffer[position++] = '@';
+        position = fillLetters(random, buffer, position, EMAIL_DOMAIN_LENGTH);
+        buffer[position++] = '.';
+        fillLetters(random, buffer, position, EMAIL_ZONE_LENGTH);
+        return new String(buffer, 0, length);
+    }
+
+    private static int fillLetters(RandomGenerator random, char[] buffer, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++)
+            buffer[i] = LETTERS[random.nextInt(LETTERS.length)];
+        return end;
+    }
+
+    private static int base36Length(long value) {
+        int length = 1;
+        while ((value /= 36) > 0)
+            length++;
+        return length;
+    }
+
+    private static char[] buffer(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+}
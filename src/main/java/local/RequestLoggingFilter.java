@@ -0,0 +1,123 @@
+package local;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RequestLoggingFilter implements OrderedFilter {
+
+    private static final int BUFFER_SIZE = Integer.getInteger("log.bufferSize", 64 * 1024);
+    private static final double SAMPLE_RATE = Double.parseDouble(System.getProperty("log.sampleRate", "0.01"));
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+    private static final RequestLoggingFilter INSTANCE = new RequestLoggingFilter();
+
+    public static RequestLoggingFilter get() {
+        return INSTANCE;
+    }
+
+    public static void clear() {
+        BUFFER.get().clear();
+    }
+
+    public static void dump() {
+        Buffer buffer = BUFFER.get();
+        if (!buffer.exchanges.isEmpty()) {
+            StringBuilder builder = new StringBuilder(buffer.size + 1024);
+            if (buffer.truncated)
+                builder.append("...\n");
+            for (Exchange exchange : buffer.exchanges)
+                format(exchange.request, exchange.response, builder);
+            System.out.print(builder);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification response,
+                           FilterContext context) {
+        LoggingPolicy policy = LoggingPolicy.current();
+        if (policy == LoggingPolicy.OFF)
+            return context.next(request, response);
+        Response result = context.next(request, response);
+        if (policy == LoggingPolicy.FULL ||
+                policy == LoggingPolicy.SAMPLED && ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE)
+            System.out.print(format(request, result, new StringBuilder()));
+        else if (policy == LoggingPolicy.ON_FAILURE)
+            BUFFER.get().add(new Exchange(request, result));
+        return result;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    static StringBuilder format(FilterableRequestSpecification request, Response response, StringBuilder builder) {
+        formatHeaders(request, response, builder);
+        String responseBody = response.asString();
+        if (!responseBody.isEmpty())
+            builder.append('\n').append(responseBody).append('\n');
+        return builder.append('\n');
+    }
+
+    static StringBuilder formatHeaders(FilterableRequestSpecification request, Response response,
+                                       StringBuilder builder) {
+        builder.append(request.getMethod()).append(' ').append(request.getURI()).append('\n');
+        for (Header header : request.getHeaders())
+            builder.append(header.getName()).append(": ").
+                    append(header.getName().equalsIgnoreCase("Authorization") ? "[hidden]" : header.getValue()).
+                    append('\n');
+        Object body = request.getBody();
+        if (body != null)
+            builder.append('\n').append(body instanceof byte[] ? new String((byte[]) body) : body).append('\n');
+        builder.append('\n').append(response.getStatusLine()).append('\n');
+        for (Header header : response.getHeaders())
+            builder.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        return builder;
+    }
+
+    private static class Exchange {
+
+        private final FilterableRequestSpecification request;
+        private final Response response;
+        private final int size;
+
+        private Exchange(FilterableRequestSpecification request, Response response) {
+            this.request = request;
+            this.response = response;
+            this.size = request.getURI().length() + response.asByteArray().length;
+        }
+
+    }
+
+    private static class Buffer {
+
+        private final Deque<Exchange> exchanges = new ArrayDeque<>();
+        private int size;
+        private boolean truncated;
+
+        private void add(Exchange exchange) {
+            exchanges.addLast(exchange);
+            size += exchange.size;
+            while (size > BUFFER_SIZE && exchanges.size() > 1) {
+                size -= exchanges.removeFirst().size;
+                truncated = true;
+            }
+        }
+
+        private void clear() {
+            exchanges.clear();
+            size = 0;
+            truncated = false;
+        }
+
+    }
+
+}
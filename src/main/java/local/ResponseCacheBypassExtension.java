@@ -0,0 +1,19 @@
+package local;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+public class ResponseCacheBypassExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ResponseCacheFilter.setBypass(true);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ResponseCacheFilter.setBypass(false);
+    }
+
+}
@@ -0,0 +1,154 @@
+package local;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ResponseCacheFilter implements OrderedFilter {
+
+    private static final ResponseCacheFilter INSTANCE = new ResponseCacheFilter(
+            Boolean.getBoolean("http.cache"),
+            Integer.getInteger("http.cache.size", 256),
+            Long.getLong("http.cache.ttl", 60000L));
+    private static final ThreadLocal<Boolean> BYPASS = ThreadLocal.withInitial(() -> false);
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ResponseCacheFilter(boolean enabled, int size, long ttlMillis) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= size)
+                    return false;
+                evictions.increment();
+                return true;
+            }
+        };
+        if (enabled)
+            Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                    System.out.println("HTTP response cache: " + stats()), "http-cache-stats"));
+    }
+
+    public static ResponseCacheFilter get() {
+        return INSTANCE;
+    }
+
+    public static void setBypass(boolean bypass) {
+        BYPASS.set(bypass);
+    }
+
+    public static boolean isBypassed() {
+        return BYPASS.get();
+    }
+
+    public String stats() {
+        return String.format("[hits: %d; revalidated: %d; misses: %d; bypassed: %d; evictions: %d]",
+                hits.sum(), revalidations.sum(), misses.sum(), bypasses.sum(), evictions.sum());
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification response,
+                           FilterContext context) {
+        if (!enabled || !isCacheable(request))
+            return context.next(request, response);
+        if (BYPASS.get()) {
+            bypasses.increment();
+            return context.next(request, response);
+        }
+        String key = request.getMethod() + " " + request.getURI() + " " +
+                request.getHeaders().getValue("Authorization");
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        long now = System.currentTimeMillis();
+        if (entry != null && now < entry.expiresAt) {
+            hits.increment();
+            return entry.toResponse();
+        }
+        if (entry != null && entry.etag != null)
+            request.header("If-None-Match", entry.etag);
+        Response result = context.next(request, response);
+        if (entry != null && result.getStatusCode() == 304) {
+            revalidations.increment();
+            store(key, new Entry(entry, now + ttlMillis));
+            return entry.toResponse();
+        }
+        misses.increment();
+        if (result.getStatusCode() == 200)
+            store(key, new Entry(result, now + ttlMillis));
+        return result;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    private static boolean isCacheable(FilterableRequestSpecification request) {
+        String path = request.getUserDefinedPath();
+        return request.getMethod().equals("GET") && (path.equals("/books") || path.startsWith("/books?") ||
+                path.startsWith("/books/"));
+    }
+
+    private void store(String key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    private static class Entry {
+
+        private final int statusCode;
+        private final String statusLine;
+        private final Headers headers;
+        private final String contentType;
+        private final byte[] body;
+        private final String etag;
+        private final long expiresAt;
+
+        private Entry(Response response, long expiresAt) {
+            this.statusCode = response.getStatusCode();
+            this.statusLine = response.getStatusLine();
+            this.headers = response.getHeaders();
+            this.contentType = response.getContentType();
+            this.body = response.asByteArray();
+            this.etag = response.getHeader("ETag");
+            this.expiresAt = expiresAt;
+        }
+
+        private Entry(Entry entry, long expiresAt) {
+            this.statusCode = entry.statusCode;
+            this.statusLine = entry.statusLine;
+            this.headers = entry.headers;
+            this.contentType = entry.contentType;
+            this.body = entry.body;
+            this.etag = entry.etag;
+            this.expiresAt = expiresAt;
+        }
+
+        private Response toResponse() {
+            return new ResponseBuilder().setStatusCode(statusCode).setStatusLine(statusLine).setHeaders(headers).
+                    setContentType(contentType).setBody(body).build();
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package local;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class RunContext {
+
+    public static final String DEFAULT_FILE = "src/test/resources/environment.properties";
+
+    private static final RunContext INSTANCE = new RunContext(
+            Paths.get(System.getProperty("run.context.file", DEFAULT_FILE)),
+            Long.getLong("run.context.flushInterval", 0L));
+
+    private final Path file;
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile boolean loaded;
+
+    private RunContext(Path file, long flushIntervalMillis) {
+        this.file = file;
+        if (flushIntervalMillis > 0) {
+            ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "run-context-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "run-context-shutdown"));
+    }
+
+    public static RunContext get() {
+        return INSTANCE;
+    }
+
+    public void set(String key, Object value) {
+        load();
+        values.put(key, value.toString());
+        dirty.set(true);
+    }
+
+    public String getString(String key) {
+        load();
+        return values.get(key);
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(require(key));
+    }
+
+    public long getLong(String key) {
+        return Long.parseLong(require(key));
+    }
+
+    public void flush() {
+        if (!dirty.compareAndSet(true, false))
+            return;
+        Properties properties = new Properties();
+        properties.putAll(values);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                properties.store(output, null);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException exception) {
+            dirty.set(true);
+            exception.printStackTrace();
+        }
+    }
+
+    private String require(String key) {
+        String value = getString(key);
+        if (value == null)
+            throw new IllegalStateException("No run context value for key: " + key);
+        return value;
+    }
+
+    private void load() {
+        if (loaded)
+            return;
+        synchronized (this) {
+            if (loaded)
+                return;
+            if (Files.exists(file)) {
+                Properties properties = new Properties();
+                try (InputStream input = Files.newInputStream(file)) {
+                    properties.load(input);
+                }
+                catch (IOException exception) {
+                    exception.printStackTrace();
+                }
+                for (String key : properties.stringPropertyNames())
+                    values.putIfAbsent(key, properties.getProperty(key));
+            }
+            loaded = true;
+        }
+    }
+
+}
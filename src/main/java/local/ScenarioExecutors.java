@@ -0,0 +1,118 @@
+package local;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ScenarioExecutors {
+
+    public static final String PLATFORM = "platform";
+    public static final String VIRTUAL = "virtual";
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = virtualThreadPerTaskExecutor();
+
+    public static String kind() {
+        return System.getProperty("scenario.executor", PLATFORM).trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static boolean virtualThreadsAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    public static ExecutorService create(int concurrency) {
+        return create(kind(), concurrency);
+    }
+
+    public static ExecutorService create(String kind, int concurrency) {
+        if (concurrency < 1)
+            throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+        switch (kind) {
+            case PLATFORM:
+                AtomicInteger threads = new AtomicInteger();
+                return Executors.newFixedThreadPool(concurrency, runnable ->
+                        new Thread(runnable, "scenario-" + threads.incrementAndGet()));
+            case VIRTUAL:
+                if (!virtualThreadsAvailable())
+                    throw new IllegalStateException("Virtual threads require Java 21 or newer, running on " +
+                            System.getProperty("java.version"));
+                try {
+                    return new BoundedExecutor((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact(),
+                            concurrency);
+                }
+                catch (Throwable throwable) {
+                    throw new IllegalStateException("Cannot create virtual thread executor", throwable);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown scenario executor: " + kind);
+        }
+    }
+
+    private static MethodHandle virtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    private static class BoundedExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        private BoundedExecutor(ExecutorService delegate, int concurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(concurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                }
+                finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+    }
+
+}
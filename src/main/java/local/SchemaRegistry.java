@@ -0,0 +1,133 @@
+package local;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SchemaRegistry {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, CompiledSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    static {
+        if (Boolean.getBoolean("schema.timings"))
+            Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                    System.out.print(report()), "schema-timings"));
+    }
+
+    public static Matcher<String> matchesSchema(String name) {
+        return new SchemaMatcher(schema(name));
+    }
+
+    public static CompiledSchema schema(String name) {
+        return SCHEMAS.computeIfAbsent(name, SchemaRegistry::compile);
+    }
+
+    public static String report() {
+        StringBuilder report = new StringBuilder("JSON schema timings:\n");
+        for (CompiledSchema schema : new TreeMap<>(SCHEMAS).values())
+            report.append(schema).append('\n');
+        return report.toString();
+    }
+
+    private static CompiledSchema compile(String name) {
+        long start = System.nanoTime();
+        try (InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(name)) {
+            if (input == null)
+                throw new IllegalArgumentException("No JSON schema in classpath: " + name);
+            JsonSchema schema = FACTORY.getJsonSchema(MAPPER.readTree(input));
+            return new CompiledSchema(name, schema, System.nanoTime() - start);
+        }
+        catch (IOException | ProcessingException exception) {
+            throw new IllegalStateException("Cannot compile JSON schema " + name, exception);
+        }
+    }
+
+    public static class CompiledSchema {
+
+        private final String name;
+        private final JsonSchema schema;
+        private final long compileNanos;
+        private final LongAdder validations = new LongAdder();
+        private final LongAdder validationNanos = new LongAdder();
+
+        private CompiledSchema(String name, JsonSchema schema, long compileNanos) {
+            this.name = name;
+            this.schema = schema;
+            this.compileNanos = compileNanos;
+        }
+
+        public ProcessingReport validate(JsonNode node) throws ProcessingException {
+            long start = System.nanoTime();
+            try {
+                return schema.validate(node);
+            }
+            finally {
+                validations.increment();
+                validationNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            long count = validations.sum();
+            return String.format("%s: compiled in %.3f ms, %d validations, %.3f ms average", name,
+                    compileNanos / 1e6, count, count == 0 ? 0 : validationNanos.sum() / 1e6 / count);
+        }
+
+    }
+
+    private static class SchemaMatcher extends TypeSafeMatcher<String> {
+
+        private final CompiledSchema schema;
+
+        private SchemaMatcher(CompiledSchema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        protected boolean matchesSafely(String body) {
+            try {
+                return schema.validate(MAPPER.readTree(body)).isSuccess();
+            }
+            catch (IOException | ProcessingException exception) {
+                return false;
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("JSON matching schema ").appendValue(schema.getName());
+        }
+
+        @Override
+        protected void describeMismatchSafely(String body, Description description) {
+            try {
+                description.appendText(schema.validate(MAPPER.readTree(body)).toString());
+            }
+            catch (IOException | ProcessingException exception) {
+                description.appendText(exception.getMessage());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,216 @@
+package local;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int index;
+    private final int count;
+    private final Path timings;
+    private final Map<UniqueId, Set<UniqueId>> selections = new HashMap<>();
+
+    public ShardFilter() {
+        this(Integer.getInteger("shard.index", 0), Integer.getInteger("shard.count", 1),
+                Paths.get(System.getProperty("shard.timings", "target/allure-results")));
+    }
+
+    public ShardFilter(int index, int count, Path timings) {
+        if (count < 1 || index < 0 || index >= count)
+            throw new IllegalArgumentException(String.format("Invalid shard %d of %d", index, count));
+        this.index = index;
+        this.count = count;
+        this.timings = timings;
+    }
+
+    @Override
+    public synchronized FilterResult apply(TestDescriptor descriptor) {
+        if (count == 1 || !isUnit(descriptor))
+            return FilterResult.included("Sharding disabled or not a test method");
+        TestDescriptor root = descriptor.getParent().orElseThrow();
+        while (root.getParent().isPresent())
+            root = root.getParent().get();
+        TestDescriptor engine = root;
+        Set<UniqueId> selected = selections.computeIfAbsent(engine.getUniqueId(), id -> plan(engine));
+        return selected.contains(descriptor.getUniqueId()) ?
+                FilterResult.included(String.format("In shard %d of %d", index, count)) :
+                FilterResult.excluded(String.format("Not in shard %d of %d", index, count));
+    }
+
+    private Set<UniqueId> plan(TestDescriptor engine) {
+        List<TestDescriptor> units = new ArrayList<>();
+        collectUnits(engine, units);
+        Map<String, Long> durations = loadTimings(timings);
+        long fallback = median(durations.values());
+        Map<String, List<TestDescriptor>> groups = new TreeMap<>();
+        Map<String, String> parents = new HashMap<>();
+        for (TestDescriptor unit : units) {
+            String name = fullName(unit);
+            find(parents, name);
+            DependsOn dependsOn = method(unit).getAnnotation(DependsOn.class);
+            if (dependsOn != null)
+                for (String dependency : dependsOn.value())
+                    union(parents, name, className(unit) + "." + dependency);
+        }
+        for (TestDescriptor unit : units)
+            groups.computeIfAbsent(find(parents, fullName(unit)), key -> new ArrayList<>()).add(unit);
+        List<Map.Entry<String, List<TestDescriptor>>> ordered = new ArrayList<>(groups.entrySet());
+        Map<String, Long> weights = new HashMap<>();
+        for (Map.Entry<String, List<TestDescriptor>> group : ordered) {
+            long weight = 0;
+            for (TestDescriptor unit : group.getValue())
+                weight += durations.getOrDefault(fullName(unit), fallback);
+            weights.put(group.getKey(), weight);
+        }
+        ordered.sort(Comparator.comparing((Map.Entry<String, List<TestDescriptor>> group) ->
+                weights.get(group.getKey())).reversed());
+        long[] loads = new long[count];
+        Set<UniqueId> selected = new HashSet<>();
+        int tests = 0;
+        int groupCount = 0;
+        for (Map.Entry<String, List<TestDescriptor>> group : ordered) {
+            int shard = 0;
+            for (int i = 1; i < count; i++)
+                if (loads[i] < loads[shard])
+                    shard = i;
+            loads[shard] += weights.get(group.getKey());
+            if (shard != index)
+                continue;
+            groupCount++;
+            for (TestDescriptor unit : group.getValue()) {
+                selected.add(unit.getUniqueId());
+                tests++;
+            }
+        }
+        System.out.printf("Shard %d of %d: %d of %d tests in %d groups, estimated %d of %d ms (timings of %d " +
+                        "tests from %s)%n", index, count, tests, units.size(), groupCount, loads[index],
+                Arrays.stream(loads).sum(), durations.size(), timings);
+        return selected;
+    }
+
+    public static Map<String, Long> loadTimings(Path timings) {
+        Map<String, Long> durations = new HashMap<>();
+        try {
+            if (Files.isDirectory(timings))
+                readAllureResults(timings, durations);
+            else if (Files.isRegularFile(timings))
+                try (InputStream input = Files.newInputStream(timings)) {
+                    Properties properties = new Properties();
+                    properties.load(input);
+                    for (String name : properties.stringPropertyNames())
+                        durations.put(name, Long.parseLong(properties.getProperty(name).trim()));
+                }
+        }
+        catch (IOException | NumberFormatException exception) {
+            System.out.println("Cannot read test timings from " + timings + ": " + exception);
+            durations.clear();
+        }
+        return durations;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path results = Paths.get(args.length > 0 ? args[0] : "target/allure-results");
+        Path target = Paths.get(args.length > 1 ? args[1] : "test-timings.properties");
+        Map<String, Long> durations = new TreeMap<>(loadTimings(results));
+        List<String> lines = new ArrayList<>();
+        lines.add("# Test durations in milliseconds by class and method name");
+        for (Map.Entry<String, Long> duration : durations.entrySet())
+            lines.add(duration.getKey() + "=" + duration.getValue());
+        Files.write(target, lines);
+        System.out.printf("Wrote durations of %d tests from %s to %s%n", durations.size(), results, target);
+    }
+
+    private static void readAllureResults(Path directory, Map<String, Long> durations) throws IOException {
+        Map<String, long[]> latest = new HashMap<>();
+        Map<String, String> names = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(path ->
+                    path.getFileName().toString().endsWith("-result.json"))::iterator) {
+                JsonNode result = MAPPER.readTree(file.toFile());
+                String fullName = result.path("fullName").asText(null);
+                if (fullName == null || !result.has("start") || !result.has("stop"))
+                    continue;
+                String id = fullName;
+                for (JsonNode label : result.path("labels"))
+                    if (label.path("name").asText().equals("junit.platform.uniqueid"))
+                        id = label.path("value").asText();
+                long start = result.get("start").asLong();
+                long stop = result.get("stop").asLong();
+                long[] previous = latest.get(id);
+                if (previous == null || previous[0] < start) {
+                    latest.put(id, new long[]{start, stop - start});
+                    names.put(id, fullName);
+                }
+            }
+        }
+        for (Map.Entry<String, long[]> result : latest.entrySet())
+            durations.merge(names.get(result.getKey()), result.getValue()[1], Long::sum);
+    }
+
+    private static boolean isUnit(TestDescriptor descriptor) {
+        return descriptor.getSource().filter(MethodSource.class::isInstance).isPresent() &&
+                descriptor.getParent().flatMap(TestDescriptor::getSource).
+                        filter(source -> !(source instanceof MethodSource)).isPresent();
+    }
+
+    private static void collectUnits(TestDescriptor descriptor, List<TestDescriptor> units) {
+        if (isUnit(descriptor))
+            units.add(descriptor);
+        else
+            for (TestDescriptor child : descriptor.getChildren())
+                collectUnits(child, units);
+    }
+
+    private static Method method(TestDescriptor unit) {
+        return ((MethodSource) unit.getSource().orElseThrow()).getJavaMethod();
+    }
+
+    private static String className(TestDescriptor unit) {
+        return ((MethodSource) unit.getSource().orElseThrow()).getClassName();
+    }
+
+    private static String fullName(TestDescriptor unit) {
+        return className(unit) + "." + method(unit).getName();
+    }
+
+    private static long median(Collection<Long> values) {
+        if (values.isEmpty())
+            return 1;
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return Math.max(1, sorted.get(sorted.size() / 2));
+    }
+
+    private static String find(Map<String, String> parents, String name) {
+        String parent = parents.computeIfAbsent(name, key -> key);
+        if (parent.equals(name))
+            return name;
+        String root = find(parents, parent);
+        parents.put(name, root);
+        return root;
+    }
+
+    private static void union(Map<String, String> parents, String first, String second) {
+        String firstRoot = find(parents, first);
+        String secondRoot = find(parents, second);
+        if (firstRoot.compareTo(secondRoot) < 0)
+            parents.put(secondRoot, firstRoot);
+        else if (!firstRoot.equals(secondRoot))
+            parents.put(firstRoot, secondRoot);
+    }
+
+}
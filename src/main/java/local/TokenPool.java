@@ -0,0 +1,178 @@
+package local;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static local.CustomData.BASE_URL;
+import static local.CustomSpecifications.requestSpec;
+import static local.CustomSpecifications.responseSpec;
+
+public class TokenPool {
+
+    private static volatile TokenPool shared;
+
+    private final String baseUrl;
+    private final Path cache;
+    private final List<String> tokens;
+    private final ConcurrentLinkedQueue<String> idle;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicBoolean grown = new AtomicBoolean();
+
+    private TokenPool(String baseUrl, Path cache, List<String> tokens) {
+        this.baseUrl = baseUrl;
+        this.cache = cache;
+        this.tokens = new CopyOnWriteArrayList<>(tokens);
+        this.idle = new ConcurrentLinkedQueue<>(tokens);
+    }
+
+    public static TokenPool shared() {
+        if (shared == null) {
+            synchronized (TokenPool.class) {
+                if (shared == null) {
+                    shared = open(BASE_URL, Paths.get(System.getProperty("tokens.cache", "target/token-pool.txt")),
+                            Integer.getInteger("tokens.size", 16), Integer.getInteger("tokens.batchSize", 8));
+                    Runtime.getRuntime().addShutdownHook(new Thread(shared::saveIfGrown, "token-pool-shutdown"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static TokenPool open(String baseUrl, Path cache, int size, int batchSize) {
+        List<String> tokens = load(baseUrl, cache);
+        if (!tokens.isEmpty() && !isValid(baseUrl, tokens.get(0)))
+            tokens.clear();
+        boolean registered = tokens.size() < size;
+        if (registered)
+            tokens.addAll(register(baseUrl, size - tokens.size(), batchSize));
+        TokenPool pool = new TokenPool(baseUrl, cache, tokens);
+        if (registered)
+            pool.save();
+        return pool;
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public String lease() {
+        if (tokens.isEmpty())
+            throw new IllegalStateException("Token pool for " + baseUrl + " is empty; set tokens.size to at least 1");
+        return tokens.get(Math.floorMod(next.getAndIncrement(), tokens.size()));
+    }
+
+    public Checkout checkout() {
+        String token = idle.poll();
+        if (token == null) {
+            token = registerClient(baseUrl);
+            tokens.add(token);
+            grown.set(true);
+        }
+        return new Checkout(token);
+    }
+
+    public void save() {
+        try {
+            Path parent = cache.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, cache.getFileName().toString(), ".tmp");
+            List<String> lines = new ArrayList<>(tokens.size() + 1);
+            lines.add(baseUrl);
+            lines.addAll(tokens);
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    private void saveIfGrown() {
+        if (grown.compareAndSet(true, false))
+            save();
+    }
+
+    private static List<String> load(String baseUrl, Path cache) {
+        List<String> tokens = new ArrayList<>();
+        if (Files.exists(cache)) {
+            try {
+                List<String> lines = Files.readAllLines(cache, StandardCharsets.UTF_8);
+                if (!lines.isEmpty() && lines.get(0).equals(baseUrl))
+                    for (String line : lines.subList(1, lines.size()))
+                        if (!line.isBlank())
+                            tokens.add(line.trim());
+            }
+            catch (IOException exception) {
+                exception.printStackTrace();
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isValid(String baseUrl, String token) {
+        Response response = RestAssured.given().spec(requestSpec(baseUrl)).auth().preemptive().oauth2(token).
+                when().get("/orders");
+        response.asByteArray();
+        return response.statusCode() == 200;
+    }
+
+    private static List<String> register(String baseUrl, int count, int batchSize) {
+        List<String> tokens = new ArrayList<>(count);
+        ExecutorService executor = ScenarioExecutors.create(batchSize);
+        try {
+            for (int offset = 0; offset < count; offset += batchSize) {
+                List<Callable<String>> batch = new ArrayList<>(batchSize);
+                for (int i = offset; i < Math.min(count, offset + batchSize); i++)
+                    batch.add(() -> registerClient(baseUrl));
+                for (Future<String> token : executor.invokeAll(batch))
+                    tokens.add(token.get());
+            }
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while registering API clients", exception);
+        }
+        catch (ExecutionException exception) {
+            throw new IllegalStateException("Cannot register API client", exception.getCause());
+        }
+        finally {
+            executor.shutdown();
+        }
+        return tokens;
+    }
+
+    private static String registerClient(String baseUrl) {
+        return RestAssured.given().spec(requestSpec(baseUrl)).
+                body(new Client(RandomData.name(), RandomData.email())).when().post("/api-clients").then().
+                spec(responseSpec(201)).extract().path("accessToken");
+    }
+
+    public class Checkout implements AutoCloseable {
+
+        private final String token;
+
+        private Checkout(String token) {
+            this.token = token;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        @Override
+        public void close() {
+            idle.offer(token);
+        }
+
+    }
+
+}
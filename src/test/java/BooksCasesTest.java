@@ -0,0 +1,44 @@
+import io.qameta.allure.Epic;
+import local.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Epic("All Simple Books API tests")
+public class BooksCasesTest {
+
+    @TestFactory
+    @DisplayName("GET /books | Case file")
+    public List<DynamicContainer> getBooksCases() {
+        CaseEngine engine = new CaseEngine(AsyncBooksApiClient.shared());
+        Map<String, List<CaseEngine.Case>> groups = CaseEngine.load("books_cases.txt");
+        List<DynamicContainer> containers = new ArrayList<>(groups.size());
+        for (Map.Entry<String, List<CaseEngine.Case>> group : groups.entrySet()) {
+            List<CompletableFuture<Void>> results = engine.runGroup(group.getValue());
+            List<DynamicTest> tests = new ArrayList<>(results.size());
+            for (int i = 0; i < results.size(); i++) {
+                CompletableFuture<Void> result = results.get(i);
+                tests.add(DynamicTest.dynamicTest(group.getValue().get(i).toString(), () -> join(result)));
+            }
+            containers.add(DynamicContainer.dynamicContainer(group.getKey(), tests));
+        }
+        return containers;
+    }
+
+    private static void join(CompletableFuture<Void> result) throws Throwable {
+        try {
+            result.join();
+        }
+        catch (CompletionException exception) {
+            throw exception.getCause();
+        }
+    }
+
+}
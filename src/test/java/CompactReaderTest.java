@@ -0,0 +1,72 @@
+import io.qameta.allure.Epic;
+import local.CompactReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Epic("All Simple Books API tests")
+public class CompactReaderTest {
+
+    @Test
+    @DisplayName("Compact reader | books list")
+    public void readBooks() {
+        assertEquals(2, CompactReader.readBooks(bytes("[{\"id\":1,\"available\":true},{\"id\":2}]")).size(),
+                "Books list length");
+    }
+
+    @Test
+    @DisplayName("Compact reader | non-numeric id")
+    public void readBookNonNumericId() {
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                () -> CompactReader.readBook(bytes("{\"id\":\"one\",\"name\":\"Book\"}")));
+        assertEquals("Expected an integer in id but found one", exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Compact reader | non-numeric quantity")
+    public void readOrderNonNumericQuantity() {
+        assertThrows(UncheckedIOException.class,
+                () -> CompactReader.readOrder(bytes("{\"id\":\"a\",\"quantity\":\"many\"}")));
+    }
+
+    @Test
+    @DisplayName("Compact reader | fractional id")
+    public void readBookFractionalId() {
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                () -> CompactReader.readBook(bytes("{\"id\":1.5}")));
+        assertEquals("Expected an integer in id but found 1.5", exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Compact reader | object in a string field")
+    public void readBookObjectName() {
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                () -> CompactReader.readBook(bytes("{\"name\":{\"id\":2},\"id\":1}")));
+        assertEquals("Expected a string in name but found {", exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Compact reader | books list with a non-object element")
+    public void readBooksNonObjectElement() {
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                () -> CompactReader.readBooks(bytes("[{\"id\":1},2,{\"id\":3}]")));
+        assertEquals("Expected START_OBJECT or END_ARRAY but found VALUE_NUMBER_INT",
+                exception.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Compact reader | orders list with a non-object element")
+    public void readOrdersNonObjectElement() {
+        assertThrows(UncheckedIOException.class, () -> CompactReader.readOrders(bytes("[{\"id\":\"a\"},null]")));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,86 @@
+import io.qameta.allure.Epic;
+import io.restassured.RestAssured;
+import local.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static local.CustomSpecifications.requestSpec;
+import static local.CustomSpecifications.responseSpec;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Epic("All Simple Books API tests")
+public class OrderBatchTest {
+
+    private static LocalBooksApi api;
+
+    @BeforeAll
+    public static void startApi() {
+        api = LocalBooksApi.start();
+    }
+
+    @AfterAll
+    public static void stopApi() {
+        api.stop();
+    }
+
+    @Test
+    @DisplayName("Order batch | create with failing items")
+    public void createPartialFailure() {
+        OrderBatch batch = new OrderBatch(api.getBaseUrl(), registerClient(), 2);
+        List<OrderBatch.Result<RequestOrder, CreatedOrder>> results = batch.create(Arrays.asList(
+                new RequestOrder(1, "first"), new RequestOrder(2, "unavailable"),
+                new RequestOrder(999, "unknown"), new RequestOrder(1, "second")));
+        assertEquals(4, results.size(), "Results length");
+        for (int i = 0; i < results.size(); i++)
+            assertEquals(i, results.get(i).getIndex(), "Result index");
+        List<OrderBatch.Result<RequestOrder, CreatedOrder>> failures = OrderBatch.failures(results);
+        assertEquals(2, failures.size(), "Failures length");
+        assertEquals("unavailable", failures.get(0).getInput().getCustomerName(), "First failure input");
+        assertTrue(failures.get(0).getError().getMessage().contains("404"), "First failure error");
+        assertEquals("unknown", failures.get(1).getInput().getCustomerName(), "Second failure input");
+        assertTrue(failures.get(1).getError().getMessage().contains("400"), "Second failure error");
+        assertNull(failures.get(0).getOutput(), "Failure output");
+
+        List<CreatedOrder> created = OrderBatch.successes(results);
+        assertEquals(2, created.size(), "Successes length");
+        List<String> orderIds = Arrays.asList(created.get(0).getOrderId(), created.get(1).getOrderId(), "missing");
+        assertEquals(Collections.singleton("missing"), batch.missing(orderIds), "Missing orders");
+        assertTrue(OrderBatch.failures(batch.deleteAll()).isEmpty(), "Cleanup failures");
+    }
+
+    @Test
+    @DisplayName("Order batch | cleanup after a failing delete")
+    public void deleteAllAfterPartialFailure() {
+        OrderBatch batch = new OrderBatch(api.getBaseUrl(), registerClient(), 2);
+        List<CreatedOrder> created = OrderBatch.successes(batch.create(Arrays.asList(
+                new RequestOrder(1, "first"), new RequestOrder(1, "second"), new RequestOrder(1, "third"))));
+        assertEquals(3, created.size(), "Created orders");
+
+        List<OrderBatch.Result<String, String>> deleted =
+                batch.delete(Arrays.asList(created.get(0).getOrderId(), "missing"));
+        assertEquals(Collections.singletonList(created.get(0).getOrderId()), OrderBatch.successes(deleted),
+                "Deleted orders");
+        List<OrderBatch.Result<String, String>> failures = OrderBatch.failures(deleted);
+        assertEquals(1, failures.size(), "Failures length");
+        assertEquals(1, failures.get(0).getIndex(), "Failure index");
+        assertTrue(failures.get(0).toString().startsWith("#1 missing failed: "), "Failure description");
+
+        List<OrderBatch.Result<String, String>> cleanup = batch.deleteAll();
+        assertEquals(2, cleanup.size(), "Orders left after the failing delete");
+        assertTrue(OrderBatch.failures(cleanup).isEmpty(), "Cleanup failures");
+        assertTrue(batch.list().isEmpty(), "Orders after cleanup");
+    }
+
+    private static String registerClient() {
+        return RestAssured.given().spec(requestSpec(api.getBaseUrl())).
+                body(new Client(RandomData.name(), RandomData.email())).when().post("/api-clients").then().
+                spec(responseSpec(201)).extract().path("accessToken");
+    }
+
+}
@@ -2,21 +2,29 @@ import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import local.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
-import static io.restassured.RestAssured.given;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
 import static local.CustomFunctions.*;
 import static local.CustomSpecifications.*;
 import static local.CustomData.*;
-import static org.hamcrest.CoreMatchers.anyOf;
-import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.MatcherAssert.assertThat;
+import static local.JsonBody.validated;
+import static local.SchemaRegistry.matchesSchema;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Execution(ExecutionMode.CONCURRENT)
+@ExtendWith({DependencyScheduler.class, LogOnFailureExtension.class})
 @Epic("All Simple Books API tests")
 public class SimpleBooksApiTest {
 
@@ -35,9 +43,8 @@ public class SimpleBooksApiTest {
     @Description("Shows the status of the API.")
     public void getStatus() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        String status = given().when().get("/status").then().log().all().
-                body(matchesJsonSchemaInClasspath("status_schema.json")).
-                extract().body().jsonPath().get("status");
+        String status = validated(given().when().get("/status").then(),
+                "status_schema.json").get("status");
         assertEquals("OK", status, "Response body value check: status");
     }
 
@@ -47,8 +54,8 @@ public class SimpleBooksApiTest {
     @Description("Shows a list of all books.")
     public void getBooks() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        given().when().get("/books").then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json"));
+        given().when().get("/books").then().
+                body(matchesSchema("books_list_schema.json"));
     }
 
     @Test
@@ -57,9 +64,8 @@ public class SimpleBooksApiTest {
     @Description("Shows a list of fiction books.")
     public void getBooksTypeFiction() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        List<BookFromList> books = given().when().get("/books?type=fiction").then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json")).
-                extract().body().jsonPath().getList(".", BookFromList.class);
+        List<BookFromList> books = validated(given().when().get("/books?type=fiction").then(),
+                "books_list_schema.json").asList(BookFromList.class);
         for (BookFromList book : books)
             assertEquals("fiction", book.getType(),
                     "Checking all \"type\" keys for having \"fiction\" value");
@@ -71,9 +77,8 @@ public class SimpleBooksApiTest {
     @Description("Shows a list of non-fiction books.")
     public void getBooksTypeNonFiction() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        List<BookFromList> books = given().when().get("/books?type=non-fiction").then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json")).
-                extract().body().jsonPath().getList(".", BookFromList.class);
+        List<BookFromList> books = validated(given().when().get("/books?type=non-fiction").then(),
+                "books_list_schema.json").asList(BookFromList.class);
         for (BookFromList book : books)
             assertEquals("non-fiction", book.getType(),
                     "Checking all \"type\" keys for having \"non-fiction\" value");
@@ -85,9 +90,8 @@ public class SimpleBooksApiTest {
     @Description("Attempt to call GET /books method with nonexistent value of type parameter.")
     public void getBooksWrongType() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
-        String error = given().when().get("/books?type=" + WRONG_TYPE).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().when().get("/books?type=" + WRONG_TYPE).then(),
+                "error_schema.json").get("error");
         assertEquals("Invalid value for query parameter 'type'. Must be one of: fiction, non-fiction.",
                 error, "Response body value check: error");
     }
@@ -98,224 +102,8 @@ public class SimpleBooksApiTest {
     @Description("Calling GET /books method with empty value of type parameter.")
     public void getBooksEmptyType() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        given().when().get("/books?type=").then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json"));
-    }
-
-    @Test
-    @Order(7)
-    @DisplayName("GET /books | limit = 1")
-    @Description("Calling GET /books method with the value of limit parameter equal to 1.")
-    public void getBooksLimitIs1() {
-        getBooksCorrectLimit(1);
-    }
-
-    @Test
-    @Order(8)
-    @DisplayName("GET /books | limit = 2")
-    @Description("Calling GET /books method with the value of limit parameter equal to 2.")
-    public void getBooksLimitIs2() {
-        getBooksCorrectLimit(2);
-    }
-
-    @Test
-    @Order(9)
-    @DisplayName("GET /books | limit is current books number")
-    @Description("Calling GET /books method with the value of limit parameter equal to current books number.")
-    public void getBooksLimitIsCurrentBooksNumber() {
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        List<BookFromList> books = given().when().get("/books?limit=" + CURRENT_BOOKS_NUMBER).then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json")).
-                extract().body().jsonPath().getList(".", BookFromList.class);
-        assertEquals(CURRENT_BOOKS_NUMBER, books.size(), "Books list length is current books number");
-    }
-
-    @Test
-    @Order(10)
-    @DisplayName("GET /books | limit = 19")
-    @Description("Calling GET /books method with the value of limit parameter equal to 19 (the value preceding the maximum valid value of limit parameter).")
-    public void getBooksLimitIs19() {
-        getBooksCorrectLimit(19);
-    }
-
-    @Test
-    @Order(11)
-    @DisplayName("GET /books | limit = 20")
-    @Description("Calling GET /books method with the value of limit parameter equal to 20 (the maximum valid value of limit parameter).")
-    public void getBooksLimitIs20() {
-        getBooksCorrectLimit(20);
-    }
-
-    @Test
-    @Order(12)
-    @DisplayName("GET /books | limit = 21")
-    @Description("Attempt to call GET /books method with the value of limit parameter equal to 21 (the value above the maximum valid value of limit parameter).")
-    public void getBooksLimitIs21() {
-        int limit = 21;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(400));
-        String error = given().when().get("/books?limit=" + limit).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
-        assertEquals("Invalid value for query parameter 'limit'. Cannot be greater than 20.",
-                error, "Response body value check: error");
-    }
-
-    @Test
-    @Order(13)
-    @DisplayName("GET /books | limit = 0")
-    @Description("Calling GET /books method with the value of limit parameter equal to 0.")
-    public void getBooksLimitIs0() {
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        given().when().get("/books?limit=0").then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json"));
-    }
-
-    @Test
-    @Order(14)
-    @DisplayName("GET /books | limit = -1")
-    @Description("Attempt to call GET /books method with the value of limit parameter equal to -1 (negative value).")
-    public void getBooksLimitIsNegative() {
-        int limit = -1;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(400));
-        String error = given().when().get("/books?limit=" + limit).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
-        assertEquals("Invalid value for query parameter 'limit'. Must be greater than 0.",
-                error, "Response body value check: error");
-    }
-
-    @Test
-    @Order(15)
-    @DisplayName("GET /books | limit = 2.5")
-    @Description("Calling GET /books method with the value of limit parameter equal to 2.5 (fractional number). Fractional part is expected to be ignored.")
-    public void getBooksLimitIsFractional() {
-        double limit = 2.5;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        List<BookFromList> books = given().when().get("/books?limit=" + limit).then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json")).
-                extract().body().jsonPath().getList(".", BookFromList.class);
-        assertThat(String.format("Books list length is %d or current books number", (int) limit),
-                books.size(), anyOf(is((int) limit), is(CURRENT_BOOKS_NUMBER)));
-    }
-
-    @Test
-    @Order(16)
-    @DisplayName("GET /books | limit is not a number")
-    @Description("Calling GET /books method with non-numeric value of limit parameter. The non-numeric value is expected to be ignored.")
-    public void getBooksLimitIsNotANumber() {
-        String limit = "test";
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        given().when().get("/books?limit=" + limit).then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json"));
-    }
-
-    @Test
-    @Order(17)
-    @DisplayName("GET /books | Empty limit")
-    @Description("Calling GET /books method with empty value of limit parameter.")
-    public void getBooksEmptyLimit() {
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        given().when().get("/books?limit=").then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json"));
-    }
-
-    @Test
-    @Order(18)
-    @DisplayName("GET /books | type: fiction & limit = 2")
-    @Description("Shows only first two fiction books.")
-    public void getBooksTypeFictionAndLimitIs2() {
-        String type = "fiction";
-        int limit = 2;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        List<BookFromList> books = given().when().
-                get(String.format("/books?type=%s&limit=%d", type, limit)).then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json")).
-                extract().body().jsonPath().getList(".", BookFromList.class);
-        assertEquals(limit, books.size(), "Books list length is " + limit);
-        for (BookFromList book : books)
-            assertEquals(type, book.getType(),
-                    "Checking all \"type\" keys for having \"fiction\" value");
-    }
-
-    @Test
-    @Order(19)
-    @DisplayName("GET /books | type: non-fiction & limit = 1")
-    @Description("Show the first non-fiction book.")
-    public void getBooksTypeNonFictionAndLimitIs1() {
-        String type = "non-fiction";
-        int limit = 1;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        List<BookFromList> books = given().when().
-                get(String.format("/books?type=%s&limit=%d", type, limit)).then().log().all().
-                body(matchesJsonSchemaInClasspath("books_list_schema.json")).
-                extract().body().jsonPath().getList(".", BookFromList.class);
-        assertEquals(limit, books.size(), "Books list length is " + limit);
-        for (BookFromList book : books)
-            assertEquals(type, book.getType(),
-                    "Checking all \"type\" keys for having \"non-fiction\" value");
-    }
-
-    @Test
-    @Order(20)
-    @DisplayName("GET /books | id")
-    @Description("Shows detailed information about book with passed identifier.")
-    public void getBooksId() {
-        int id = 1;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        SingleBook book = given().when().get("/books/" + id).then().log().all().
-                body(matchesJsonSchemaInClasspath("single_book_schema.json")).
-                extract().body().jsonPath().getObject(".", SingleBook.class);
-        assertEquals(id, book.getId(), "Book id is " + id);
-    }
-
-    @Test
-    @Order(21)
-    @DisplayName("GET /books | id is out of range")
-    @Description("Attempt to call GET /books method with the value of id parameter out of valid values range.")
-    public void getBooksIdIsOutOfRange() {
-        getBooksIncorrectId(100);
-    }
-
-    @Test
-    @Order(22)
-    @DisplayName("GET /books | id = 0")
-    @Description("Attempt to call GET /books method with the value of id parameter equal to 0.")
-    public void getBooksIdIs0() {
-        getBooksIncorrectId(0);
-    }
-
-    @Test
-    @Order(23)
-    @DisplayName("GET /books | id = 2.5")
-    @Description("Calling GET /books method with the value of id parameter equal to 2.5 (fractional number). Fractional part is expected to be ignored.")
-    public void getBooksIdIsFractional() {
-        double id = 2.5;
-        setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        SingleBook book = given().when().get("/books/" + id).then().log().all().
-                body(matchesJsonSchemaInClasspath("single_book_schema.json")).
-                extract().body().jsonPath().getObject(".", SingleBook.class);
-        assertEquals((int) id, book.getId(), "Book id is " + (int) id);
-    }
-
-    @Test
-    @Order(24)
-    @DisplayName("GET /books | id = -1")
-    @Description("Attempt to call GET /books method with the value of id parameter equal to -1 (negative value).")
-    public void getBooksIdIsNegative() {
-        getBooksIncorrectId(-1);
-    }
-
-    @Test
-    @Order(25)
-    @DisplayName("GET /books | id is text")
-    @Description("Attempt to call GET /books method with non-numeric value of id parameter.")
-    public void getBooksIdIsText() {
-        String id = "test";
-        setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().when().get("/books/" + id).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
-        assertEquals("No book with id NaN", error, "Response body value check: error");
+        given().when().get("/books?type=").then().
+                body(matchesSchema("books_list_schema.json"));
     }
 
     @Test
@@ -325,8 +113,8 @@ public class SimpleBooksApiTest {
     public void postApiClients() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(201));
         Client client = new Client(randomString(10), randomEmail());
-        given().body(client).when().post("/api-clients").then().log().all().
-                body(matchesJsonSchemaInClasspath("token_schema.json"));
+        given().body(client).when().post("/api-clients").then().
+                body(matchesSchema("token_schema.json"));
         setEnvironmentValue("occupiedEmail", client.getClientEmail());
     }
 
@@ -334,12 +122,12 @@ public class SimpleBooksApiTest {
     @Order(27)
     @DisplayName("POST /api-clients | clientEmail is occupied")
     @Description("Attempt to call POST /api-clients method with already occupied email.")
+    @DependsOn("postApiClients")
     public void postApiClientsClientEmailIsOccupied() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(409));
         Client client = new Client(randomString(10), getEnvironmentValue("occupiedEmail"));
-        String error = given().body(client).when().post("/api-clients").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().body(client).when().post("/api-clients").then(),
+                "error_schema.json").get("error");
         assertEquals("API client already registered. Try a different email.", error,
                 "Response body value check: error");
     }
@@ -350,9 +138,8 @@ public class SimpleBooksApiTest {
     @Description("Attempt to call POST /api-clients method without request body.")
     public void postApiClientsNoBody() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
-        String error = given().when().post("/api-clients").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().when().post("/api-clients").then(),
+                "error_schema.json").get("error");
         assertEquals("Invalid or missing client name.", error,
                 "Response body value check: error");
     }
@@ -390,9 +177,8 @@ public class SimpleBooksApiTest {
     public void postApiClientsEmptyClientName() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         Client client = new Client("", randomEmail());
-        String error = given().body(client).when().post("/api-clients").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().body(client).when().post("/api-clients").then(),
+                "error_schema.json").get("error");
         assertEquals("Invalid or missing client name.", error,
                 "Response body value check: error");
     }
@@ -404,9 +190,8 @@ public class SimpleBooksApiTest {
     public void postApiClientsClientNameContainsOnlyOneSymbol() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         Client client = new Client("a", randomEmail());
-        String error = given().body(client).when().post("/api-clients").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().body(client).when().post("/api-clients").then(),
+                "error_schema.json").get("error");
         assertEquals("Invalid or missing client name.", error,
                 "Response body value check: error");
     }
@@ -466,7 +251,7 @@ public class SimpleBooksApiTest {
     public void postApiClientsToken() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(201));
         Client client = new Client(randomString(10), randomEmail());
-        String accessToken = given().body(client).when().post("/api-clients").then().log().all().
+        String accessToken = given().body(client).when().post("/api-clients").then().
                 extract().body().jsonPath().get("accessToken");
         setEnvironmentValue("accessToken", accessToken);
     }
@@ -478,7 +263,7 @@ public class SimpleBooksApiTest {
     public void postApiClientsOtherToken() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(201));
         Client client = new Client(randomString(10), randomEmail());
-        String accessToken = given().body(client).when().post("/api-clients").then().log().all().
+        String accessToken = given().body(client).when().post("/api-clients").then().
                 extract().body().jsonPath().get("accessToken");
         setEnvironmentValue("otherAccessToken", accessToken);
     }
@@ -487,23 +272,22 @@ public class SimpleBooksApiTest {
     @Order(42)
     @DisplayName("POST /orders")
     @Description("Creating a new order.")
+    @DependsOn({"setFirstAvailableAndUnavailableBooksIds", "postApiClientsToken"})
     public void postOrders() {
-        int firstAvailableBookId = Integer.parseInt(getEnvironmentValue("firstAvailableBookId"));
+        int firstAvailableBookId = getEnvironmentIntValue("firstAvailableBookId");
         setSpecifications(requestSpec(BASE_URL), responseSpec(201));
         RequestOrder order = new RequestOrder(firstAvailableBookId, randomString(10));
-        CreatedOrder createdOrder = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                body(order).when().post("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("created_order_schema.json")).
-                extract().body().jsonPath().getObject(".", CreatedOrder.class);
+        CreatedOrder createdOrder = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                body(order).when().post("/orders").then(),
+                "created_order_schema.json").as(CreatedOrder.class);
         assertTrue(createdOrder.getCreated(), "Response body value check: created");
         setEnvironmentValue("bookId", firstAvailableBookId);
         setEnvironmentValue("orderId", createdOrder.getOrderId());
         setEnvironmentValue("customerName", order.getCustomerName());
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        DetailedOrder detailedOrder = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().get("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("detailed_order_schema.json")).
-                extract().body().jsonPath().getObject(".", DetailedOrder.class);
+        DetailedOrder detailedOrder = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                when().get("/orders/" + getEnvironmentValue("orderId")).then(),
+                "detailed_order_schema.json").as(DetailedOrder.class);
         assertEquals(getEnvironmentValue("orderId"), detailedOrder.getId(),
                 "Response body value check: id");
         assertEquals(firstAvailableBookId, detailedOrder.getBookId(),
@@ -519,14 +303,14 @@ public class SimpleBooksApiTest {
     @Order(43)
     @DisplayName("POST /orders | Book is not in stock")
     @Description("Attempt to call POST /orders method with identifier of a book which is not in stock.")
+    @DependsOn({"setFirstAvailableAndUnavailableBooksIds", "postApiClientsToken"})
     public void postOrdersBookIsNotInStock() {
-        int firstUnavailableBookId = Integer.parseInt(getEnvironmentValue("firstUnavailableBookId"));
+        int firstUnavailableBookId = getEnvironmentIntValue("firstUnavailableBookId");
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
         RequestOrder order = new RequestOrder(firstUnavailableBookId, randomString(10));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                body(order).when().post("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                body(order).when().post("/orders").then(),
+                "error_schema.json").get("error");
         assertEquals("This book is not in stock. Try again later.", error,
                 "Response body value check: error");
     }
@@ -538,9 +322,8 @@ public class SimpleBooksApiTest {
     public void postOrdersNoAuth() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(401));
         RequestOrder order = new RequestOrder(1, randomString(10));
-        String error = given().body(order).when().post("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().body(order).when().post("/orders").then(),
+                "error_schema.json").get("error");
         assertEquals("Missing Authorization header.", error, "Response body value check: error");
     }
 
@@ -548,12 +331,12 @@ public class SimpleBooksApiTest {
     @Order(45)
     @DisplayName("POST /orders | No body")
     @Description("Attempt to call POST /orders method without request body.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersNoBody() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().post("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                when().post("/orders").then(),
+                "error_schema.json").get("error");
         assertEquals("Invalid or missing bookId.", error, "Response body value check: error");
     }
 
@@ -561,6 +344,7 @@ public class SimpleBooksApiTest {
     @Order(46)
     @DisplayName("POST /orders | Empty body")
     @Description("Attempt to call POST /orders method with empty request body.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersEmptyBody() {
         postOrdersWrongBody("{}", "Invalid or missing bookId.");
     }
@@ -569,6 +353,7 @@ public class SimpleBooksApiTest {
     @Order(47)
     @DisplayName("POST /orders | No bookId")
     @Description("Attempt to call POST /orders method without bookId parameter.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersNoBookId() {
         postOrdersWrongBody(String.format("{\"customerName\": \"%s\"}", randomString(10)),
                 "Invalid or missing bookId.");
@@ -578,6 +363,7 @@ public class SimpleBooksApiTest {
     @Order(48)
     @DisplayName("POST /orders | Empty bookId")
     @Description("Attempt to call POST /orders method with empty value of bookId parameter.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersEmptyBookId() {
         postOrdersWrongBody(String.format("{\"bookId\": \"\", \"customerName\": \"%s\"}",
                 randomString(10)), "Invalid or missing bookId.");
@@ -587,6 +373,7 @@ public class SimpleBooksApiTest {
     @Order(49)
     @DisplayName("POST /orders | bookId = 0")
     @Description("Attempt to call POST /orders method with the value of bookId parameter equal to 0.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersBookIdIs0() {
         postOrdersWrongBookId(0);
     }
@@ -595,6 +382,7 @@ public class SimpleBooksApiTest {
     @Order(50)
     @DisplayName("POST /orders | bookId is out of range")
     @Description("Attempt to call POST /orders method with the value of bookId parameter out of valid values range.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersBookIdIsOutOfRange() {
         postOrdersWrongBookId(100);
     }
@@ -603,6 +391,7 @@ public class SimpleBooksApiTest {
     @Order(51)
     @DisplayName("POST /orders | bookId = -1")
     @Description("Attempt to call POST /orders method with the value of bookId parameter equal to -1 (negative value).")
+    @DependsOn("postApiClientsToken")
     public void postOrdersBookIdIsNegative() {
         postOrdersWrongBookId(-1);
     }
@@ -611,15 +400,15 @@ public class SimpleBooksApiTest {
     @Order(52)
     @DisplayName("POST /orders | bookId is fractional")
     @Description("Calling POST /orders method with the value of bookId parameter equal to 2.5 (fractional number). Fractional part is expected to be ignored.")
+    @DependsOn({"setFirstAvailableAndUnavailableBooksIds", "postApiClientsToken"})
     public void postOrdersBookIdIsFractional() {
-        double fractionalId = Integer.parseInt(getEnvironmentValue("firstUnavailableBookId")) + 0.5;
+        double fractionalId = getEnvironmentIntValue("firstUnavailableBookId") + 0.5;
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body(String.format("{\"bookId\": %s, \"customerName\": \"%s\"}",
                         fractionalId, randomString(10))).
-                when().post("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+                when().post("/orders").then(),
+                "error_schema.json").get("error");
         assertEquals("This book is not in stock. Try again later.", error,
                 "Response body value check: error");
     }
@@ -628,6 +417,7 @@ public class SimpleBooksApiTest {
     @Order(53)
     @DisplayName("POST /orders | bookId is text")
     @Description("Attempt to call POST /orders method with non-numeric value of bookId parameter.")
+    @DependsOn("postApiClientsToken")
     public void postOrdersBookIdIsText() {
         String textId = "test";
         postOrdersWrongBody(String.format("{\"bookId\": \"%s\", \"customerName\": \"%s\"}",
@@ -638,35 +428,38 @@ public class SimpleBooksApiTest {
     @Order(54)
     @DisplayName("POST /orders | No customerName")
     @Description("Attempt to call POST /orders method without customerName parameter.")
+    @DependsOn({"setFirstAvailableAndUnavailableBooksIds", "postApiClientsToken"})
     public void postOrdersNoCustomerName() {
-        int firstAvailableBookId = Integer.parseInt(getEnvironmentValue("firstAvailableBookId"));
+        int firstAvailableBookId = getEnvironmentIntValue("firstAvailableBookId");
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body(String.format("{\"bookId\": %d}", firstAvailableBookId)).
-                when().post("/orders").then().log().all();
+                when().post("/orders").then();
     }
 
     @Test
     @Order(55)
     @DisplayName("POST /orders | Empty customerName")
     @Description("Attempt to call POST /orders method with empty value of customerName parameter.")
+    @DependsOn({"setFirstAvailableAndUnavailableBooksIds", "postApiClientsToken"})
     public void postOrdersEmptyCustomerName() {
-        int firstAvailableBookId = Integer.parseInt(getEnvironmentValue("firstAvailableBookId"));
+        int firstAvailableBookId = getEnvironmentIntValue("firstAvailableBookId");
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         RequestOrder order = new RequestOrder(firstAvailableBookId, "");
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                body(order).when().post("/orders").then().log().all();
+                body(order).when().post("/orders").then();
     }
 
     @Test
     @Order(56)
     @DisplayName("GET /orders")
     @Description("Shows all orders of a user.")
+    @DependsOn("postApiClientsToken")
     public void getOrders() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().get("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("orders_list_schema.json"));
+                when().get("/orders").then().
+                body(matchesSchema("orders_list_schema.json"));
     }
 
     @Test
@@ -675,9 +468,8 @@ public class SimpleBooksApiTest {
     @Description("Attempt to call GET /orders method without authorization.")
     public void getOrdersNoAuth() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(401));
-        String error = given().when().get("/orders").then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().when().get("/orders").then(),
+                "error_schema.json").get("error");
         assertEquals("Missing Authorization header.", error, "Response body value check: error");
     }
 
@@ -685,23 +477,24 @@ public class SimpleBooksApiTest {
     @Order(58)
     @DisplayName("GET /orders | id")
     @Description("Shows detailed information about order with passed identifier.")
+    @DependsOn("postOrders")
     public void getOrdersId() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().get("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("detailed_order_schema.json"));
+                when().get("/orders/" + getEnvironmentValue("orderId")).then().
+                body(matchesSchema("detailed_order_schema.json"));
     }
 
     @Test
     @Order(59)
     @DisplayName("GET /orders | id: Other user token")
     @Description("Attempt to show information about order by calling GET /orders method with token of a user who is not the owner of the order.")
+    @DependsOn({"postOrders", "postApiClientsOtherToken"})
     public void getOrdersIdOtherUserToken() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("otherAccessToken")).
-                when().get("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("otherAccessToken")).
+                when().get("/orders/" + getEnvironmentValue("orderId")).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", getEnvironmentValue("orderId")), error,
                 "Response body value check: error");
     }
@@ -710,13 +503,13 @@ public class SimpleBooksApiTest {
     @Order(60)
     @DisplayName("GET /orders | Nonexistent id")
     @Description("Attempt to call GET /orders method with nonexistent identifier.")
+    @DependsOn("postApiClientsToken")
     public void getOrdersNonexistentId() {
         String orderId = "test";
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().get("/orders/" + orderId).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                when().get("/orders/" + orderId).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", orderId), error,
                 "Response body value check: error");
     }
@@ -725,29 +518,29 @@ public class SimpleBooksApiTest {
     @Order(61)
     @DisplayName("PATCH /orders")
     @Description("Updating an existing order.")
+    @DependsOn("postOrders")
     public void patchOrders() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(204));
         String customerName = "patchTestUsername";
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body(String.format("{\"customerName\": \"%s\"}", customerName)).when().
-                patch("/orders/" + getEnvironmentValue("orderId")).then().log().all();
+                patch("/orders/" + getEnvironmentValue("orderId")).then();
         setEnvironmentValue("customerName", customerName);
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        DetailedOrder detailedOrder = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().get("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("detailed_order_schema.json")).
-                extract().body().jsonPath().getObject(".", DetailedOrder.class);
+        DetailedOrder detailedOrder = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                when().get("/orders/" + getEnvironmentValue("orderId")).then(),
+                "detailed_order_schema.json").as(DetailedOrder.class);
         assertEquals(getEnvironmentValue("orderId"), detailedOrder.getId(),
                 "Response body value check: id");
-        assertEquals(Integer.parseInt(getEnvironmentValue("bookId")), detailedOrder.getBookId(),
+        assertEquals(getEnvironmentIntValue("bookId"), detailedOrder.getBookId(),
                 "Response body value check: bookId");
         assertEquals(customerName, detailedOrder.getCustomerName(),
                 "Response body value check: customerName");
         assertEquals(getEnvironmentValue("createdBy"), detailedOrder.getCreatedBy(),
                 "Response body value check: createdBy");
-        assertEquals(Integer.parseInt(getEnvironmentValue("quantity")), detailedOrder.getQuantity(),
+        assertEquals(getEnvironmentIntValue("quantity"), detailedOrder.getQuantity(),
                 "Response body value check: quantity");
-        assertEquals(Long.parseLong(getEnvironmentValue("timestamp")), detailedOrder.getTimestamp(),
+        assertEquals(getEnvironmentLongValue("timestamp"), detailedOrder.getTimestamp(),
                 "Response body value check: timestamp");
     }
 
@@ -755,33 +548,33 @@ public class SimpleBooksApiTest {
     @Order(62)
     @DisplayName("PATCH /orders | Editing all parameters")
     @Description("Trying to edit all parameters of order.")
+    @DependsOn("patchOrders")
     public void patchOrdersEditingAllParameters() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(204));
         DetailedOrder patchDetailedOrder = new DetailedOrder("testId",
-                Integer.parseInt(getEnvironmentValue("bookId")) + 2,
+                getEnvironmentIntValue("bookId") + 2,
                 "editingAllParametersTest", "testCreatedBy",
-                Integer.parseInt(getEnvironmentValue("quantity")) + 1, 876506400000L);
+                getEnvironmentIntValue("quantity") + 1, 876506400000L);
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body(patchDetailedOrder).when().patch("/orders/" + getEnvironmentValue("orderId")).
-                then().log().all();
+                then();
         setEnvironmentValue("customerName", patchDetailedOrder.getCustomerName());
         setSpecifications(requestSpec(BASE_URL), responseSpec(200));
-        DetailedOrder getDetailedOrder = given().auth().preemptive().
+        DetailedOrder getDetailedOrder = validated(given().auth().preemptive().
                 oauth2(getEnvironmentValue("accessToken")).when().
-                get("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("detailed_order_schema.json")).
-                extract().body().jsonPath().getObject(".", DetailedOrder.class);
+                get("/orders/" + getEnvironmentValue("orderId")).then(),
+                "detailed_order_schema.json").as(DetailedOrder.class);
         assertEquals(getEnvironmentValue("orderId"), getDetailedOrder.getId(),
                 "Response body value check: id");
-        assertEquals(Integer.parseInt(getEnvironmentValue("bookId")), getDetailedOrder.getBookId(),
+        assertEquals(getEnvironmentIntValue("bookId"), getDetailedOrder.getBookId(),
                 "Response body value check: bookId");
         assertEquals(patchDetailedOrder.getCustomerName(), getDetailedOrder.getCustomerName(),
                 "Response body value check: customerName");
         assertEquals(getEnvironmentValue("createdBy"), getDetailedOrder.getCreatedBy(),
                 "Response body value check: createdBy");
-        assertEquals(Integer.parseInt(getEnvironmentValue("quantity")), getDetailedOrder.getQuantity(),
+        assertEquals(getEnvironmentIntValue("quantity"), getDetailedOrder.getQuantity(),
                 "Response body value check: quantity");
-        assertEquals(Long.parseLong(getEnvironmentValue("timestamp")), getDetailedOrder.getTimestamp(),
+        assertEquals(getEnvironmentLongValue("timestamp"), getDetailedOrder.getTimestamp(),
                 "Response body value check: timestamp");
     }
 
@@ -789,13 +582,13 @@ public class SimpleBooksApiTest {
     @Order(63)
     @DisplayName("PATCH /orders | No auth")
     @Description("Attempt to call PATCH /orders method without authorization.")
+    @DependsOn("postOrders")
     public void patchOrdersNoAuth() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(401));
         String customerName = "patchTestUsername";
-        String error = given().body(String.format("{\"customerName\": \"%s\"}", customerName)).
-                when().patch("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().body(String.format("{\"customerName\": \"%s\"}", customerName)).
+                when().patch("/orders/" + getEnvironmentValue("orderId")).then(),
+                "error_schema.json").get("error");
         assertEquals("Missing Authorization header.", error, "Response body value check: error");
     }
 
@@ -803,14 +596,14 @@ public class SimpleBooksApiTest {
     @Order(64)
     @DisplayName("PATCH /orders | Other user token")
     @Description("Attempt to update order by calling PATCH /orders method with token of a user who is not the owner of the order.")
+    @DependsOn({"postOrders", "postApiClientsOtherToken"})
     public void patchOrdersOtherUserToken() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
         String customerName = "patchTestUsername";
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("otherAccessToken")).
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("otherAccessToken")).
                 body(String.format("{\"customerName\": \"%s\"}", customerName)).
-                when().patch("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+                when().patch("/orders/" + getEnvironmentValue("orderId")).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", getEnvironmentValue("orderId")), error,
                 "Response body value check: error");
     }
@@ -819,27 +612,28 @@ public class SimpleBooksApiTest {
     @Order(65)
     @DisplayName("PATCH /orders | No id")
     @Description("Attempt to call PATCH /orders method without id parameter.")
+    @DependsOn("postApiClientsToken")
     public void patchOrdersNoId() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
         String customerName = "John";
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body(String.format("{\"customerName\": \"%s\"}", customerName)).
-                when().patch("/orders").then().log().all();
+                when().patch("/orders").then();
     }
 
     @Test
     @Order(66)
     @DisplayName("PATCH /orders | Nonexistent id")
     @Description("Attempt to call PATCH /orders method with nonexistent identifier.")
+    @DependsOn("postApiClientsToken")
     public void patchOrdersNonexistentId() {
         String orderId = "test";
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
         String customerName = "patchTestUsername";
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body(String.format("{\"customerName\": \"%s\"}", customerName)).
-                when().patch("/orders/" + orderId).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+                when().patch("/orders/" + orderId).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", orderId), error,
                 "Response body value check: error");
     }
@@ -848,46 +642,51 @@ public class SimpleBooksApiTest {
     @Order(67)
     @DisplayName("PATCH /orders | No body")
     @Description("Attempt to call PATCH /orders method without request body.")
+    @DependsOn("postOrders")
     public void patchOrdersNoBody() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().patch("/orders/" + getEnvironmentValue("orderId")).then().log().all();
+                when().patch("/orders/" + getEnvironmentValue("orderId")).then();
     }
 
     @Test
     @Order(68)
     @DisplayName("PATCH /orders | Empty body")
     @Description("Attempt to call PATCH /orders method with empty request body.")
+    @DependsOn("postOrders")
     public void patchOrdersEmptyBody() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).body("{}").
-                when().patch("/orders/" + getEnvironmentValue("orderId")).then().log().all();
+                when().patch("/orders/" + getEnvironmentValue("orderId")).then();
     }
 
     @Test
     @Order(69)
     @DisplayName("PATCH /orders | Empty customerName")
     @Description("Attempt to call PATCH /orders method with empty value of customerName parameter.")
+    @DependsOn("postOrders")
     public void patchOrdersEmptyCustomerName() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(400));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
                 body("{\"customerName\": \"\"}").when().
-                patch("/orders/" + getEnvironmentValue("orderId")).then().log().all();
+                patch("/orders/" + getEnvironmentValue("orderId")).then();
     }
 
     @Test
     @Order(70)
     @DisplayName("DELETE /orders")
     @Description("Deletes an existing order.")
+    @DependsOn({"getOrdersId", "getOrdersIdOtherUserToken", "patchOrders", "patchOrdersEditingAllParameters",
+            "patchOrdersNoAuth", "patchOrdersOtherUserToken", "patchOrdersNoBody", "patchOrdersEmptyBody",
+            "patchOrdersEmptyCustomerName"})
     public void deleteOrders() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(204));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().delete("/orders/" + getEnvironmentValue("orderId")).then().log().all();
+                when().delete("/orders/" + getEnvironmentValue("orderId")).then();
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().get("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                when().get("/orders/" + getEnvironmentValue("orderId")).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", getEnvironmentValue("orderId")), error,
                 "Response body value check: error");
     }
@@ -896,6 +695,7 @@ public class SimpleBooksApiTest {
     @Order(71)
     @DisplayName("Create a new order")
     @Description("Creating a new order.")
+    @DependsOn("deleteOrders")
     public void postOrdersNewOrder() {
         postOrders();
     }
@@ -904,12 +704,12 @@ public class SimpleBooksApiTest {
     @Order(72)
     @DisplayName("DELETE /orders | No auth")
     @Description("Attempt to call DELETE /orders method without authorization.")
+    @DependsOn("postOrdersNewOrder")
     public void deleteOrdersNoAuth() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(401));
-        String error = given().when().delete("/orders/" + getEnvironmentValue("orderId")).
-                then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().when().delete("/orders/" + getEnvironmentValue("orderId")).
+                then(),
+                "error_schema.json").get("error");
         assertEquals("Missing Authorization header.", error, "Response body value check: error");
     }
 
@@ -917,12 +717,12 @@ public class SimpleBooksApiTest {
     @Order(73)
     @DisplayName("DELETE /orders | Other user token")
     @Description("Attempt to delete order by calling DELETE /orders method with token of a user who is not the owner of the order.")
+    @DependsOn({"postOrdersNewOrder", "postApiClientsOtherToken"})
     public void deleteOrdersOtherUserToken() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("otherAccessToken")).
-                when().delete("/orders/" + getEnvironmentValue("orderId")).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("otherAccessToken")).
+                when().delete("/orders/" + getEnvironmentValue("orderId")).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", getEnvironmentValue("orderId")), error,
                 "Response body value check: error");
     }
@@ -931,25 +731,79 @@ public class SimpleBooksApiTest {
     @Order(74)
     @DisplayName("DELETE /orders | No id")
     @Description("Attempt to call DELETE /orders method without id parameter.")
+    @DependsOn("postApiClientsToken")
     public void deleteOrdersNoId() {
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
         given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().delete("/orders").then().log().all();
+                when().delete("/orders").then();
     }
 
     @Test
     @Order(75)
     @DisplayName("DELETE /orders | Nonexistent id")
     @Description("Attempt to call DELETE /orders method with nonexistent identifier.")
+    @DependsOn("postApiClientsToken")
     public void deleteOrdersNonexistentId() {
         String orderId = "test";
         setSpecifications(requestSpec(BASE_URL), responseSpec(404));
-        String error = given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
-                when().delete("/orders/" + orderId).then().log().all().
-                body(matchesJsonSchemaInClasspath("error_schema.json")).
-                extract().body().jsonPath().get("error");
+        String error = validated(given().auth().preemptive().oauth2(getEnvironmentValue("accessToken")).
+                when().delete("/orders/" + orderId).then(),
+                "error_schema.json").get("error");
         assertEquals(String.format("No order with id %s.", orderId), error,
                 "Response body value check: error");
     }
 
+    @Test
+    @Order(76)
+    @DisplayName("GET /books | Every type and valid limit")
+    @Description("Calling GET /books method with each book type and each valid value of limit parameter. The requests are sent concurrently.")
+    public void getBooksEveryTypeAndLimit() throws Throwable {
+        List<CompletableFuture<Void>> checks = new ArrayList<>();
+        for (String type : List.of("fiction", "non-fiction"))
+            for (int limit = 1; limit <= 20; limit++) {
+                String query = String.format("type=%s&limit=%d", type, limit);
+                int expectedSize = Math.min(limit, CatalogSnapshot.get().byType(type).size());
+                checks.add(AsyncBooksApiClient.shared().getBooks(query).thenAccept(books -> {
+                    assertEquals(expectedSize, books.size(), "Books list length for " + query);
+                    for (BookFromList book : books)
+                        assertEquals(type, book.getType(), "Checking all \"type\" keys for " + query);
+                }));
+            }
+        try {
+            CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0])).join();
+        }
+        catch (CompletionException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @Test
+    @Order(77)
+    @DisplayName("Order lifecycle | Concurrent clients")
+    @Description("Running the POST /orders, GET /orders, PATCH /orders and DELETE /orders flow for many clients at once on the threads selected by scenario.executor.")
+    public void orderLifecycleConcurrentClients() throws Exception {
+        int clients = Integer.getInteger("scenario.clients", 0);
+        assumeTrue(clients > 0, "Concurrent order lifecycles run only when scenario.clients is set");
+        LatencyStats stats = new LatencyStats();
+        OrderLifecycleScenario scenario = new OrderLifecycleScenario(stats, false);
+        CatalogSnapshot.get();
+        TokenPool.shared();
+        int inFlight = Math.min(clients, ApiConfig.get().getMaxConnections());
+        ExecutorService executor = ScenarioExecutors.create(inFlight);
+        try {
+            List<Future<Boolean>> runs = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++)
+                runs.add(executor.submit(() -> scenario.run(System.nanoTime())));
+            int passed = 0;
+            for (Future<Boolean> run : runs)
+                if (run.get())
+                    passed++;
+            assertEquals(clients, passed, String.format("Completed order lifecycles on %s threads%n%s",
+                    ScenarioExecutors.kind(), stats.toTable(0)));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
 }